@@ -0,0 +1,135 @@
+package seedu.address.benchmarkutil;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.EPiggy;
+import seedu.address.model.epiggy.Allowance;
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.SampleEPiggyDataUtil;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.model.epiggy.item.Item;
+import seedu.address.model.epiggy.item.Name;
+import seedu.address.model.epiggy.item.Period;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates synthetic ledgers of any size for the benchmarks, from the sample expenses, budgets and goal in
+ * {@code SampleEPiggyDataUtil}.
+ * Each generated expense copies the type, name and tags of a sample expense, and adds one of {@code WORDS} to its
+ * name and tags, so that keyword searches match a predictable fraction of the ledger.
+ * The same seed always generates the same ledger.
+ */
+public class LedgerGenerator {
+
+    /** Words added to the names and tags of the generated expenses. */
+    public static final String[] WORDS = {
+        "Kopi", "Laksa", "Taxi", "Movie", "Books", "Groceries", "Gym", "Phone", "Bubble", "Haircut",
+        "Concert", "Printing", "Stationery", "Snacks", "Supper", "Gift"
+    };
+
+    /** The date of the earliest generated expense. */
+    public static final LocalDate FIRST_DATE = LocalDate.of(2015, 1, 1);
+    /** The number of days over which the generated expenses are spread. */
+    public static final int DAYS = 4 * 365;
+    public static final int BUDGET_PERIOD = 30;
+    /**
+     * The amount of each budget, which is large enough that no budget is overspent for ledgers of up to a million
+     * expenses, as the negative remaining amount of an overspent budget cannot be read back from a json file.
+     */
+    public static final int BUDGET_AMOUNT = 999999;
+    /** The number of budgets needed to cover all the dates of the generated expenses. */
+    public static final int BUDGET_COUNT = DAYS / BUDGET_PERIOD + 1;
+
+    private static final long DEFAULT_SEED = 2103;
+    private static final int MAX_COST_IN_CENTS = 5000;
+    /** One in this number of generated expenses is an allowance. */
+    private static final int ALLOWANCE_RATIO = 10;
+
+    private final Random random;
+    private final Expense[] sampleExpenses;
+
+    public LedgerGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public LedgerGenerator(long seed) {
+        random = new Random(seed);
+        try {
+            sampleExpenses = SampleEPiggyDataUtil.getSampleExpenses();
+        } catch (ParseException e) {
+            throw new AssertionError("The sample expenses should be valid.", e);
+        }
+    }
+
+    /**
+     * Returns an ePiggy with {@code expenseCount} expenses, {@code BUDGET_COUNT} budgets covering all their dates,
+     * and the sample goal.
+     */
+    public EPiggy generateEPiggy(int expenseCount) {
+        EPiggy ePiggy = new EPiggy();
+        ePiggy.loadData(generateExpenses(expenseCount), generateBudgets(), SampleEPiggyDataUtil.getSampleGoal());
+        return ePiggy;
+    }
+
+    /**
+     * Returns {@code count} expenses in the order of their dates, which are spread evenly over {@code DAYS} days
+     * from {@code FIRST_DATE}, as they would be in a ledger which is kept up to date.
+     */
+    public List<Expense> generateExpenses(int count) {
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            expenses.add(generateExpenseOn((int) ((long) i * DAYS / count)));
+        }
+        return expenses;
+    }
+
+    /**
+     * Returns an expense on a random day within the dates of the generated ledgers.
+     */
+    public Expense generateExpense() {
+        return generateExpenseOn(random.nextInt(DAYS));
+    }
+
+    /**
+     * Returns consecutive budgets of {@code BUDGET_PERIOD} days from {@code FIRST_DATE}, covering all the dates of
+     * the generated expenses, from the latest to the earliest as in the budget list.
+     */
+    public List<Budget> generateBudgets() {
+        List<Budget> budgets = new ArrayList<>();
+        for (int i = BUDGET_COUNT - 1; i >= 0; i--) {
+            budgets.add(new Budget(new Cost(BUDGET_AMOUNT), new Period(BUDGET_PERIOD), toDate(i * BUDGET_PERIOD)));
+        }
+        return budgets;
+    }
+
+    /**
+     * Returns an expense {@code day} days after {@code FIRST_DATE}, based on the sample allowance, which is the
+     * first sample expense, or the sample expense after it.
+     */
+    private Expense generateExpenseOn(int day) {
+        boolean isAllowance = random.nextInt(ALLOWANCE_RATIO) == 0;
+        Expense sample = sampleExpenses[isAllowance ? 0 : 1];
+
+        String word = WORDS[random.nextInt(WORDS.length)];
+        Name name = new Name(sample.getItem().getName().name + " " + word);
+        Cost cost = Cost.fromCents(1 + random.nextInt(MAX_COST_IN_CENTS));
+        Set<Tag> tags = new HashSet<>(SampleEPiggyDataUtil.getTagSet(word));
+        tags.addAll(sample.getItem().getTags());
+
+        Item item = new Item(name, cost, tags);
+        return isAllowance ? new Allowance(item, toDate(day)) : new Expense(item, toDate(day));
+    }
+
+    private static Date toDate(int day) {
+        return Date.from(FIRST_DATE.plusDays(day).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.LedgerGenerator;
+import seedu.address.model.epiggy.Expense;
+
+/**
+ * Measures adding expenses to a ledger whose budgets cover all the dates of its expenses, so that every added
+ * expense updates a budget.
+ * Each iteration adds {@code BATCH_SIZE} expenses to a new ledger of {@code size} expenses, so that the ledger does
+ * not grow without bound over the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = EPiggyBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = EPiggyBenchmark.BATCH_SIZE)
+@Fork(1)
+public class EPiggyBenchmark {
+
+    static final int BATCH_SIZE = 1000;
+
+    @Param({"10000", "100000"})
+    protected int size;
+
+    private final LedgerGenerator generator = new LedgerGenerator();
+    private final Expense[] toAdd = new Expense[BATCH_SIZE];
+    private EPiggy ePiggy;
+    private int added;
+
+    @Setup(Level.Iteration)
+    public void createLedger() {
+        ePiggy = generator.generateEPiggy(size);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            toAdd[i] = generator.generateExpense();
+        }
+        added = 0;
+    }
+
+    @Benchmark
+    public EPiggy addExpense() {
+        ePiggy.addExpense(toAdd[added++ % BATCH_SIZE]);
+        return ePiggy;
+    }
+}
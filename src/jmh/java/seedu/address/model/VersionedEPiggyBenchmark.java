@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.LedgerGenerator;
+import seedu.address.model.epiggy.Expense;
+
+/**
+ * Measures committing a change to a versioned ledger, as every command which changes the ledger does.
+ * Each commit follows an added expense, so the results include the time taken by
+ * {@link EPiggyBenchmark#addExpense()}. As in {@code EPiggyBenchmark}, each iteration starts from a new ledger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = EPiggyBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = EPiggyBenchmark.BATCH_SIZE)
+@Fork(1)
+public class VersionedEPiggyBenchmark {
+
+    @Param({"10000", "100000"})
+    protected int size;
+
+    private final LedgerGenerator generator = new LedgerGenerator();
+    private final Expense[] toAdd = new Expense[EPiggyBenchmark.BATCH_SIZE];
+    private VersionedEPiggy versionedEPiggy;
+    private int added;
+
+    @Setup(Level.Iteration)
+    public void createLedger() {
+        versionedEPiggy = new VersionedEPiggy(generator.generateEPiggy(size));
+        for (int i = 0; i < toAdd.length; i++) {
+            toAdd[i] = generator.generateExpense();
+        }
+        added = 0;
+    }
+
+    @Benchmark
+    public VersionedEPiggy addExpenseAndCommit() {
+        versionedEPiggy.addExpense(toAdd[added++ % toAdd.length]);
+        versionedEPiggy.commit();
+        return versionedEPiggy;
+    }
+
+    @Benchmark
+    public VersionedEPiggy undoAndRedo() {
+        versionedEPiggy.addExpense(toAdd[added++ % toAdd.length]);
+        versionedEPiggy.commit();
+        versionedEPiggy.undo();
+        versionedEPiggy.redo();
+        return versionedEPiggy;
+    }
+}
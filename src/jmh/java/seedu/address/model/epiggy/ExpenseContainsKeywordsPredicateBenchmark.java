@@ -0,0 +1,113 @@
+package seedu.address.model.epiggy;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.LedgerGenerator;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.epiggy.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.EPiggy;
+
+/**
+ * Measures filtering the expense list as the find command does, by testing every expense against the predicate.
+ * Searches by name or tag are measured both with and without looking up the candidates in the keyword index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExpenseContainsKeywordsPredicateBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    protected int size;
+
+    private EPiggy ePiggy;
+    private List<Expense> expenses;
+    private ExpenseContainsKeywordsPredicate byName;
+    private ExpenseContainsKeywordsPredicate byTag;
+    private ExpenseContainsKeywordsPredicate byCostRange;
+    private ExpenseContainsKeywordsPredicate byDateRange;
+
+    @Setup(Level.Trial)
+    public void createLedger() throws ParseException {
+        ePiggy = new LedgerGenerator().generateEPiggy(size);
+        expenses = ePiggy.getExpenseList();
+        byName = toPredicate(" n/" + LedgerGenerator.WORDS[0]);
+        byTag = toPredicate(" t/" + LedgerGenerator.WORDS[1]);
+        byCostRange = toPredicate(" $/10:20");
+        byDateRange = toPredicate(" d/01/01/2016:31/12/2016");
+    }
+
+    /**
+     * Returns the predicate which the find command would create from {@code args}.
+     */
+    private static ExpenseContainsKeywordsPredicate toPredicate(String args) throws ParseException {
+        return new ExpenseContainsKeywordsPredicate(FindCommandParser.compileQuery(
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_COST, PREFIX_TAG, PREFIX_DATE)));
+    }
+
+    /**
+     * Returns the number of expenses which match {@code predicate}.
+     */
+    private int countMatches(Predicate<Expense> predicate) {
+        int count = 0;
+        for (Expense expense : expenses) {
+            if (predicate.test(expense)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int findByName() {
+        return countMatches(byName);
+    }
+
+    @Benchmark
+    public int findByNameIndexed() {
+        return countMatches(new IndexedKeywordsPredicate(byName, ePiggy.getExpenseKeywordIndex()));
+    }
+
+    @Benchmark
+    public int findByTag() {
+        return countMatches(byTag);
+    }
+
+    @Benchmark
+    public int findByTagIndexed() {
+        return countMatches(new IndexedKeywordsPredicate(byTag, ePiggy.getExpenseKeywordIndex()));
+    }
+
+    @Benchmark
+    public int findByCostRange() {
+        return countMatches(byCostRange);
+    }
+
+    @Benchmark
+    public int findByDateRange() {
+        return countMatches(byDateRange);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.epiggy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.LedgerGenerator;
+import seedu.address.model.epiggy.comparators.CompareExpenseByCost;
+import seedu.address.model.epiggy.comparators.CompareExpenseByDate;
+import seedu.address.model.epiggy.comparators.CompareExpenseByName;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
+
+/**
+ * Measures sorting the expenses with each of the comparators, and computing the sorted order with the cached keys
+ * of {@code ExpenseSort} as the sort command does.
+ * The expenses are shuffled before each sort, as sorting an already sorted list would only take one pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExpenseListBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    protected int size;
+
+    @Param({"name", "date", "cost"})
+    protected String sortedBy;
+
+    private final Random random = new Random(2103);
+    private List<Expense> expenses;
+    private Comparator<Expense> comparator;
+    private ExpenseSort expenseSort;
+
+    @Setup(Level.Trial)
+    public void createExpenses() {
+        expenses = new ArrayList<>(new LedgerGenerator().generateExpenses(size));
+        switch (sortedBy) {
+        case "name":
+            comparator = new CompareExpenseByName();
+            expenseSort = new ExpenseSort(ExpenseSort.Key.NAME);
+            break;
+        case "date":
+            comparator = new CompareExpenseByDate();
+            expenseSort = new ExpenseSort(ExpenseSort.Key.DATE);
+            break;
+        case "cost":
+            comparator = new CompareExpenseByCost();
+            expenseSort = new ExpenseSort(ExpenseSort.Key.COST);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown sort order: " + sortedBy);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void shuffleExpenses() {
+        Collections.shuffle(expenses, random);
+    }
+
+    @Benchmark
+    public List<Expense> sort() {
+        List<Expense> sortedExpenses = new ArrayList<>(expenses);
+        sortedExpenses.sort(comparator);
+        return sortedExpenses;
+    }
+
+    @Benchmark
+    public int[] sortedOrder() {
+        return expenseSort.sortedOrder(expenses);
+    }
+}
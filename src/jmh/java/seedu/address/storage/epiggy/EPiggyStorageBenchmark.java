@@ -0,0 +1,83 @@
+package seedu.address.storage.epiggy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.benchmarkutil.LedgerGenerator;
+import seedu.address.model.ReadOnlyEPiggy;
+
+/**
+ * Measures saving and loading a whole ledger in the json and binary formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EPiggyStorageBenchmark {
+
+    @Param({"10000", "100000"})
+    protected int size;
+
+    @Param({"json", "binary"})
+    protected String format;
+
+    private Path folder;
+    private EPiggyStorage storage;
+    private ReadOnlyEPiggy ePiggy;
+
+    @Setup(Level.Trial)
+    public void createLedgerFile() throws IOException {
+        folder = Files.createTempDirectory("epiggy-benchmark");
+        switch (format) {
+        case "json":
+            storage = new JsonEPiggyStorage(folder.resolve("ePiggy.json"));
+            break;
+        case "binary":
+            storage = new BinaryEPiggyStorage(folder.resolve("ePiggy" + BinaryEPiggyStorage.FILE_EXTENSION));
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        ePiggy = new LedgerGenerator().generateEPiggy(size);
+        storage.saveEPiggy(ePiggy);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteLedgerFile() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveEPiggy(ePiggy);
+    }
+
+    @Benchmark
+    public ReadOnlyEPiggy load() throws Exception {
+        return storage.readEPiggy().get();
+    }
+}
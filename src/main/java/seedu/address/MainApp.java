@@ -3,9 +3,13 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -18,17 +22,19 @@ import seedu.address.logic.LogicManager;
 import seedu.address.model.EPiggy;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyEPiggy;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 import seedu.address.model.epiggy.SampleEPiggyDataUtil;
+import seedu.address.storage.AsyncEPiggySaver;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ProgressiveEPiggyLoader;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.epiggy.BinaryEPiggyStorage;
 import seedu.address.storage.epiggy.EPiggyStorage;
-import seedu.address.storage.epiggy.JsonEPiggyStorage;
+import seedu.address.storage.epiggy.JournalEPiggyStorage;
+import seedu.address.storage.epiggy.PartialEPiggy;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -39,11 +45,20 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 4, 0, true);
 
+    /** The number of most recent expenses which are loaded before the UI is shown. */
+    public static final int INITIAL_EXPENSE_COUNT = 500;
+
+    /** The number of minutes between the command latencies being written to the log. */
+    public static final long METRICS_LOG_INTERVAL_MINUTES = 10;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AsyncEPiggySaver saver;
+    protected ProgressiveEPiggyLoader loader;
+    protected ScheduledExecutorService metricsLogger;
     protected Model model;
     protected Config config;
 
@@ -59,41 +74,57 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
 
-        EPiggyStorage ePiggyStorage = new JsonEPiggyStorage(userPrefs.getEPiggyFilePath());
+        EPiggyStorage ePiggyStorage = initEPiggyStorage(userPrefs.getEPiggyFilePath());
         storage = new StorageManager(ePiggyStorage, userPrefsStorage);
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        PartialEPiggy initialData = readInitialData(storage);
+        model = new ModelManager(initialData.getRecentData(), userPrefs);
+        loader = new ProgressiveEPiggyLoader(model, initialData, Platform::runLater);
 
-        logic = new LogicManager(model, storage);
+        saver = new AsyncEPiggySaver(storage, Platform::runLater);
+        logic = new LogicManager(model, storage, saver, loader);
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the storage for the ePiggy data file at {@code filePath}.
+     * Files ending with {@value BinaryEPiggyStorage#FILE_EXTENSION} are kept in the binary format, and all other
+     * files in the json format.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyEPiggy> ePiggyOptional;
-        ReadOnlyEPiggy initialData;
+    private EPiggyStorage initEPiggyStorage(Path filePath) {
+        if (filePath.toString().endsWith(BinaryEPiggyStorage.FILE_EXTENSION)) {
+            return new BinaryEPiggyStorage(filePath);
+        }
+        return new JournalEPiggyStorage(filePath);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s ePiggy, with only its {@code INITIAL_EXPENSE_COUNT} most recent expenses
+     * read, so that the UI can be shown before the older expenses are loaded. <br>
+     * The data from the sample ePiggy will be used instead if {@code storage}'s ePiggy is not found,
+     * or an empty ePiggy will be used instead if errors occur when reading {@code storage}'s ePiggy.
+     */
+    private PartialEPiggy readInitialData(Storage storage) {
+        Optional<PartialEPiggy> ePiggyOptional;
+        PartialEPiggy initialData;
         try {
-            ePiggyOptional = storage.readEPiggy();
+            ePiggyOptional = storage.readEPiggyInParts(INITIAL_EXPENSE_COUNT);
             if (!ePiggyOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample EPiggy");
             }
-            initialData = ePiggyOptional.orElseGet(SampleEPiggyDataUtil::getSampleEPiggy);
+            initialData = ePiggyOptional.orElseGet(() -> new PartialEPiggy(SampleEPiggyDataUtil.getSampleEPiggy()));
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty EPiggy");
-            initialData = new EPiggy();
+            initialData = new PartialEPiggy(new EPiggy());
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty EPiggy");
-            initialData = new EPiggy();
+            initialData = new PartialEPiggy(new EPiggy());
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -172,11 +203,40 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting EPiggy " + MainApp.VERSION);
         ui.start(primaryStage);
+        loader.start();
+        startMetricsLogging();
+    }
+
+    /**
+     * Writes the command latencies to the log every {@code METRICS_LOG_INTERVAL_MINUTES} minutes, on a background
+     * thread.
+     */
+    private void startMetricsLogging() {
+        metricsLogger = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "ePiggy metrics logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        metricsLogger.scheduleAtFixedRate(this::logCommandMetrics, METRICS_LOG_INTERVAL_MINUTES,
+                METRICS_LOG_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    private void logCommandMetrics() {
+        logger.info(logic.getCommandMetrics().getSummary());
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ePiggy ] =============================");
+        if (metricsLogger != null) {
+            metricsLogger.shutdownNow();
+            logCommandMetrics();
+        }
+        try {
+            saver.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save ePiggy data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,102 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in nanoseconds in log-linear buckets, in the manner of an HDR histogram, so that percentiles can
+ * be read back with a bounded relative error while recording a latency only increments a counter.
+ * Latencies below {@code 2^SUB_BUCKET_BITS} nanoseconds have a bucket each. Above that, each power of two is split
+ * into {@code 2^SUB_BUCKET_BITS} buckets of equal width, so a bucket is at most {@code 1/2^SUB_BUCKET_BITS} as wide
+ * as the latencies in it. Latencies above {@code MAX_TRACKABLE_NANOS} are counted in the highest bucket.
+ * Latencies can be recorded and read from any thread.
+ */
+public class LatencyHistogram {
+
+    public static final int SUB_BUCKET_BITS = 5;
+    /** About 68 seconds. */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = getIndex(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(getIndex(Math.min(value, MAX_TRACKABLE_NANOS)));
+        totalCount.incrementAndGet();
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Returns the highest latency recorded in nanoseconds, or 0 if none has been recorded.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the latency in nanoseconds which {@code percentile} percent of the recorded latencies are at or below,
+     * as the middle of the bucket containing it, or 0 if no latency has been recorded.
+     * Latencies recorded while this method runs may or may not be counted.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100 : "percentile should be between 0 and 100.";
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(getMidValue(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the index of the bucket counting {@code value}, which must be between 0 and
+     * {@code MAX_TRACKABLE_NANOS}.
+     */
+    static int getIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        // the top SUB_BUCKET_BITS + 1 bits of the value, from SUB_BUCKET_COUNT to 2 * SUB_BUCKET_COUNT - 1
+        long topBits = value >>> shift;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (topBits - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Returns the lowest value counted by the bucket at {@code index}.
+     */
+    static long getLowestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long topBits = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return topBits << shift;
+    }
+
+    private static long getMidValue(int index) {
+        long lowest = getLowestValue(index);
+        long width = getLowestValue(index + 1) - lowest;
+        return lowest + width / 2;
+    }
+}
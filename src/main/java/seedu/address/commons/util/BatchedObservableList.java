@@ -0,0 +1,138 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList}, whose changes can be batched.
+ * While a batch is open, listeners are not notified. When the outermost batch ends, they are notified once, with a
+ * single change holding every change made in the batch.
+ * Adding or removing a range of elements is a single change, done in one pass over the backing list.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+    private final ArrayList<E> elements = new ArrayList<>();
+    private int batchDepth;
+
+    /**
+     * Starts a batch of changes. Batches can be nested, and every call must be followed by a call to
+     * {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        batchDepth++;
+        beginChange();
+    }
+
+    /**
+     * Ends the batch started by the last call to {@link #beginBatch()}. If it is the outermost batch, listeners are
+     * notified of the changes made in it.
+     *
+     * @throws IllegalStateException if there is no batch to end.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("There is no batch to end.");
+        }
+        batchDepth--;
+        endChange();
+    }
+
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> collection) {
+        requireNonNull(collection);
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(collection);
+            modCount++;
+            nextReplace(0, elements.size(), removed);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll(elements.size(), collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        requireNonNull(collection);
+        if (index < 0 || index > elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.size());
+        }
+        if (collection.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            elements.addAll(index, collection);
+            modCount++;
+            nextAdd(index, index + collection.size());
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        if (from < 0 || to > elements.size() || from > to) {
+            throw new IndexOutOfBoundsException("From: " + from + ", To: " + to + ", Size: " + elements.size());
+        }
+        removeRange(from, to);
+    }
+
+    @Override
+    protected void removeRange(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> range = elements.subList(from, to);
+            List<E> removed = new ArrayList<>(range);
+            range.clear();
+            modCount++;
+            nextRemove(from, removed);
+        } finally {
+            endChange();
+        }
+    }
+}
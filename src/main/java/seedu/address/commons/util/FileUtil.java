@@ -1,10 +1,18 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -73,11 +81,75 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Maps the whole of {@code file} into memory for reading, so that its bytes are read straight from the page
+     * cache instead of being copied into the heap.
+     * The mapping stays valid after this method returns, until the buffer is garbage collected.
+     * @throws IOException if the file cannot be read, or is too large to be mapped as one buffer.
+     */
+    public static MappedByteBuffer mapFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is too large to be mapped into memory");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Writes given string to a file atomically.
      * Will create the file if it does not exist yet.
+     * @see #writeToFileAtomically(Path, OutputWriter)
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the output of {@code writer} to a temporary file next to {@code file}, forces it to the disk, and then
+     * moves it over {@code file} in one step, so that {@code file} is never left partly written.
+     * Will create the file if it does not exist yet.
+     * @throws IOException if the file cannot be written, in which case {@code file} is left unchanged.
+     */
+    public static void writeToFileAtomically(Path file, OutputWriter writer) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString() + ".", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveAtomically(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in one step, or by replacing {@code target} if the file system
+     * cannot move files atomically.
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the contents of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface OutputWriter {
+        /**
+         * Writes the contents of the file to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +12,10 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -110,6 +114,40 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, without any whitespace
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance on a single line, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Returns a generator which writes JSON to {@code out} one value at a time, in the same format as
+     * {@link #saveJsonFile}.
+     * Closing the generator flushes {@code out} but does not close it.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(new DefaultPrettyPrinter());
+        return generator;
+    }
+
+    /**
+     * Returns a parser which reads JSON from the given file through a memory-mapped window, one token at a time.
+     * Values read with {@link JsonParser#readValueAs} are converted in the same way as {@link #readJsonFile}.
+     * Closing the parser closes the file.
+     * @throws IOException if the file cannot be opened for reading
+     */
+    public static JsonParser createJsonFileParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(new MappedFileInputStream(filePath));
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a file through a memory-mapped window which slides along the file, so that the bytes are read straight
+ * from the page cache instead of being copied into a heap buffer first.
+ * Only one window is mapped at a time, so files of any size can be read.
+ */
+public class MappedFileInputStream extends InputStream {
+
+    /** The default number of bytes mapped at a time. */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private MappedByteBuffer window;
+    private long windowEnd;
+
+    public MappedFileInputStream(Path file) throws IOException {
+        this(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileInputStream(Path file, int windowSize) throws IOException {
+        assert windowSize > 0;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns true if the current window has bytes left, mapping the next window of the file if it does not.
+     * Returns false at the end of the file.
+     */
+    private boolean hasBytes() throws IOException {
+        if (window != null && window.hasRemaining()) {
+            return true;
+        }
+        if (windowEnd >= fileSize) {
+            return false;
+        }
+        long size = Math.min(windowSize, fileSize - windowEnd);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowEnd, size);
+        windowEnd += size;
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        return hasBytes() ? window.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!hasBytes()) {
+            return -1;
+        }
+        int count = Math.min(length, window.remaining());
+        window.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long count) throws IOException {
+        long skipped = 0;
+        while (skipped < count && hasBytes()) {
+            int step = (int) Math.min(count - skipped, window.remaining());
+            window.position(window.position() + step);
+            skipped += step;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return window == null ? 0 : window.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,301 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the elements of a source list in another order, which is computed by an {@link Ordering} instead of by
+ * comparing the elements one pair at a time. The view can also be reversed.
+ * Without an ordering, and when not reversed, the view is in the order of the source list, and the changes of the
+ * source list are passed through as they are. Otherwise, elements added to the source list are inserted at the
+ * positions found by binary search, elements removed from it are removed at their positions in the view, and
+ * listeners are only notified of those additions and removals.
+ * Elements with the same order are kept in their order in the source list, or in reverse if the view is reversed.
+ */
+public class PermutedList<E> extends TransformationList<E, E> {
+
+    /**
+     * An order of elements which can compute the order of a whole list at once, and compare two elements to insert
+     * one into a list in that order. Both must give the same order to elements which are not equal in it.
+     */
+    public interface Ordering<E> extends Comparator<E> {
+        /**
+         * Returns the index in {@code elements} of the element at each position of the order.
+         * Equal elements must be kept in their order in {@code elements}.
+         */
+        int[] sortedOrder(List<? extends E> elements);
+    }
+
+    private Ordering<E> ordering;
+    private boolean isReversed;
+    /** The elements of this list, or null if they are in the same order as in the source list. */
+    private List<E> elements;
+    private int[] sourceIndexes;
+    private int[] viewIndexes;
+
+    public PermutedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    /**
+     * Orders this list by {@code ordering}. If {@code ordering} is null, this list is in the order of the source list.
+     * The list is no longer reversed, and listeners are notified of the new order as a single permutation.
+     */
+    public void setOrdering(Ordering<E> ordering) {
+        this.ordering = ordering;
+        isReversed = false;
+        permute();
+    }
+
+    /**
+     * Reverses the order of this list. Listeners are notified of the new order as a single permutation.
+     */
+    public void reverse() {
+        isReversed = !isReversed;
+        permute();
+    }
+
+    /**
+     * Orders the elements again after the ordering or the order of the source list changed, and notifies listeners
+     * of the permutation. {@code sourceIndexes} must hold the current index in the source list of each element.
+     */
+    private void permute() {
+        int size = size();
+        int[] oldSourceIndexes = sourceIndexes;
+        computeOrder();
+
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            int sourceIndex = oldSourceIndexes == null ? i : oldSourceIndexes[i];
+            permutation[i] = getViewIndex(sourceIndex);
+        }
+        if (size > 1) {
+            beginChange();
+            nextPermutation(0, size, permutation);
+            endChange();
+        }
+    }
+
+    /**
+     * Computes the order of all the elements from the ordering and whether the list is reversed.
+     */
+    private void computeOrder() {
+        List<? extends E> source = getSource();
+        if (ordering == null && !isReversed) {
+            elements = null;
+            sourceIndexes = null;
+            viewIndexes = null;
+            return;
+        }
+
+        sourceIndexes = viewOrder(source);
+        elements = new ArrayList<>(sourceIndexes.length);
+        for (int sourceIndex : sourceIndexes) {
+            elements.add(source.get(sourceIndex));
+        }
+        computeViewIndexes();
+    }
+
+    /**
+     * Returns the index in {@code list} of the element at each position of the order of this list.
+     */
+    private int[] viewOrder(List<? extends E> list) {
+        int size = list.size();
+        int[] order = ordering == null ? null : ordering.sortedOrder(list);
+        int[] viewOrder = new int[size];
+        for (int i = 0; i < size; i++) {
+            int orderIndex = isReversed ? size - 1 - i : i;
+            viewOrder[i] = order == null ? orderIndex : order[orderIndex];
+        }
+        return viewOrder;
+    }
+
+    /**
+     * Computes the index in this list of each element of the source list from {@code sourceIndexes}.
+     */
+    private void computeViewIndexes() {
+        viewIndexes = new int[sourceIndexes.length];
+        for (int i = 0; i < sourceIndexes.length; i++) {
+            viewIndexes[sourceIndexes[i]] = i;
+        }
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        if (elements == null) {
+            passThrough(change);
+            return;
+        }
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                for (int i = 0; i < sourceIndexes.length; i++) {
+                    if (sourceIndexes[i] >= from && sourceIndexes[i] < to) {
+                        sourceIndexes[i] = change.getPermutation(sourceIndexes[i]);
+                    }
+                }
+                permute();
+            } else if (change.wasUpdated()) {
+                // the updated elements may have moved in the order, so they are inserted again
+                for (int i = from; i < to; i++) {
+                    removeFromView(i, 1);
+                    addToView(i, i + 1);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    removeFromView(from, change.getRemovedSize());
+                }
+                if (change.wasAdded()) {
+                    addToView(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Removes the elements which were at indexes {@code from} (inclusive) to {@code from + removedSize} (exclusive) of
+     * the source list from this list, and notifies listeners of each removal.
+     */
+    private void removeFromView(int from, int removedSize) {
+        int to = from + removedSize;
+        int size = elements.size();
+        List<E> newElements = new ArrayList<>(size - removedSize);
+        int[] newSourceIndexes = new int[size - removedSize];
+        for (int i = 0; i < size; i++) {
+            int sourceIndex = sourceIndexes[i];
+            if (sourceIndex >= from && sourceIndex < to) {
+                nextRemove(newElements.size(), elements.get(i));
+                continue;
+            }
+            newSourceIndexes[newElements.size()] = sourceIndex < from ? sourceIndex : sourceIndex - removedSize;
+            newElements.add(elements.get(i));
+        }
+        elements = newElements;
+        sourceIndexes = newSourceIndexes;
+        computeViewIndexes();
+    }
+
+    /**
+     * Inserts the elements at indexes {@code from} (inclusive) to {@code to} (exclusive) of the source list into this
+     * list, and notifies listeners of each addition.
+     * The added elements are ordered among themselves first, so that each is inserted after the one before it.
+     */
+    private void addToView(int from, int to) {
+        List<? extends E> source = getSource();
+        int addedSize = to - from;
+        int size = elements.size();
+        for (int i = 0; i < size; i++) {
+            if (sourceIndexes[i] >= from) {
+                sourceIndexes[i] += addedSize;
+            }
+        }
+
+        List<E> newElements = new ArrayList<>(size + addedSize);
+        int[] newSourceIndexes = new int[size + addedSize];
+        int viewIndex = 0;
+        for (int offset : viewOrder(source.subList(from, to))) {
+            int sourceIndex = from + offset;
+            E element = source.get(sourceIndex);
+            int position = findPosition(element, sourceIndex, viewIndex, size);
+            for (; viewIndex < position; viewIndex++) {
+                newSourceIndexes[newElements.size()] = sourceIndexes[viewIndex];
+                newElements.add(elements.get(viewIndex));
+            }
+            newSourceIndexes[newElements.size()] = sourceIndex;
+            nextAdd(newElements.size(), newElements.size() + 1);
+            newElements.add(element);
+        }
+        for (; viewIndex < size; viewIndex++) {
+            newSourceIndexes[newElements.size()] = sourceIndexes[viewIndex];
+            newElements.add(elements.get(viewIndex));
+        }
+        elements = newElements;
+        sourceIndexes = newSourceIndexes;
+        computeViewIndexes();
+    }
+
+    /**
+     * Returns the index from {@code low} (inclusive) to {@code high} (inclusive) of this list at which
+     * {@code element}, at {@code sourceIndex} of the source list, is to be inserted.
+     */
+    private int findPosition(E element, int sourceIndex, int low, int high) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(element, sourceIndex, elements.get(middle), sourceIndexes[middle]) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares two elements by their order in this list, breaking ties by their indexes in the source list.
+     */
+    private int compare(E first, int firstSourceIndex, E second, int secondSourceIndex) {
+        int result = ordering == null ? 0 : ordering.compare(first, second);
+        if (result == 0) {
+            result = Integer.compare(firstSourceIndex, secondSourceIndex);
+        }
+        return isReversed ? -result : result;
+    }
+
+    /**
+     * Notifies listeners of {@code change} to the source list, which is at the same indexes in this list.
+     */
+    private void passThrough(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, to);
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return elements == null ? getSource().get(index) : elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements == null ? getSource().size() : elements.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return sourceIndexes == null ? index : sourceIndexes[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return viewIndexes == null ? index : viewIndexes[index];
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.logic.commands.Command;
+
+/**
+ * Records how long each type of command takes to run, in a {@code LatencyHistogram} for each {@link Stage} of
+ * running it.
+ * Commands are grouped by their class, so a command entered with its alias is counted with its full command word.
+ */
+public class CommandMetrics {
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+    public static final String MESSAGE_HEADER = "Command latencies in ms (p50 / p99 / max):";
+    private static final String COMMAND_SUFFIX = "Command";
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * The stages of running a command which are timed.
+     */
+    public enum Stage {
+        /** Parsing the command text into a command. */
+        PARSE,
+        /** Executing the command on the model. */
+        EXECUTE,
+        /** Saving the changed data, or handing a snapshot of it to be saved in the background. */
+        PERSIST,
+        /** All the above, including the time spent waiting for the data to be loaded at startup. */
+        TOTAL;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final Map<String, Map<Stage, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the name which the commands of the same type as {@code command} are recorded under, which is the name
+     * of its class without the "Command" suffix.
+     */
+    public static String getCommandType(Command command) {
+        requireNonNull(command);
+        String name = command.getClass().getSimpleName();
+        return name.endsWith(COMMAND_SUFFIX) && name.length() > COMMAND_SUFFIX.length()
+                ? name.substring(0, name.length() - COMMAND_SUFFIX.length())
+                : name;
+    }
+
+    /**
+     * Records that {@code stage} of running a command of {@code commandType} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandType, Stage stage, long nanos) {
+        requireNonNull(commandType);
+        requireNonNull(stage);
+        histograms.computeIfAbsent(commandType, type -> createHistograms()).get(stage).record(nanos);
+    }
+
+    /**
+     * Returns an empty histogram for each stage.
+     */
+    private static Map<Stage, LatencyHistogram> createHistograms() {
+        Map<Stage, LatencyHistogram> stageHistograms = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            stageHistograms.put(stage, new LatencyHistogram());
+        }
+        return stageHistograms;
+    }
+
+    /**
+     * Returns the histogram of {@code stage} of the commands of {@code commandType}, or an empty histogram if no
+     * such command has been run.
+     */
+    public LatencyHistogram getHistogram(String commandType, Stage stage) {
+        Map<Stage, LatencyHistogram> stageHistograms = histograms.get(commandType);
+        return stageHistograms == null ? new LatencyHistogram() : stageHistograms.get(stage);
+    }
+
+    /**
+     * Returns the types of commands which have been run, in alphabetical order.
+     */
+    public List<String> getCommandTypes() {
+        List<String> commandTypes = new ArrayList<>(histograms.keySet());
+        commandTypes.sort(String.CASE_INSENSITIVE_ORDER);
+        return commandTypes;
+    }
+
+    /**
+     * Returns the number of runs and the 50th and 99th percentile and maximum latencies of each stage of each type
+     * of command which has been run, with a line for each type of command.
+     */
+    public String getSummary() {
+        List<String> commandTypes = getCommandTypes();
+        if (commandTypes.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        for (String commandType : commandTypes) {
+            summary.append('\n').append(commandType).append(" (")
+                    .append(getHistogram(commandType, Stage.TOTAL).getCount()).append(" runs)");
+            for (Stage stage : Stage.values()) {
+                LatencyHistogram histogram = getHistogram(commandType, stage);
+                summary.append(String.format(" | %s %.2f / %.2f / %.2f", stage,
+                        toMillis(histogram.getValueAtPercentile(50)),
+                        toMillis(histogram.getValueAtPercentile(99)),
+                        toMillis(histogram.getMax())));
+            }
+        }
+        return summary.toString();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.value.ObservableValue;
@@ -30,6 +32,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Adds a listener to be notified when the ePiggy data changed by a command could not be saved in the
+     * background.
+     */
+    void addSaveFailureListener(Consumer<IOException> listener);
+
     /**
      * Returns the EPiggy.
      *
@@ -55,6 +63,11 @@ public interface Logic {
      */
     ObservableList<String> getHistory();
 
+    /**
+     * Returns the latencies of the commands which have been executed.
+     */
+    CommandMetrics getCommandMetrics();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -2,6 +2,8 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -9,11 +11,15 @@ import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandMetrics.Stage;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.EPiggyParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.EPiggyChangeRecorder;
+import seedu.address.model.EPiggyChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyEPiggy;
 import seedu.address.model.epiggy.Budget;
@@ -22,6 +28,8 @@ import seedu.address.model.epiggy.Goal;
 
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncEPiggySaver;
+import seedu.address.storage.ProgressiveEPiggyLoader;
 import seedu.address.storage.Storage;
 
 /**
@@ -29,49 +37,145 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String LOAD_ERROR_MESSAGE = "Could not load older expenses from file: ";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CommandHistory history;
+    private final CommandMetrics metrics;
     private final EPiggyParser ePiggyParser;
+    private final AsyncEPiggySaver saver;
+    private final ProgressiveEPiggyLoader loader;
+    private final EPiggyChangeRecorder changeRecorder;
     private boolean addressBookModified;
 
+    /**
+     * Creates a {@code LogicManager} which saves the ePiggy data to {@code storage} before each modifying command
+     * returns.
+     */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Creates a {@code LogicManager} which hands the changes made to the ePiggy data to {@code saver} after each
+     * modifying command, to be saved in the background. If {@code saver} is null, the changes are saved to
+     * {@code storage} before each modifying command returns.
+     */
+    public LogicManager(Model model, Storage storage, AsyncEPiggySaver saver) {
+        this(model, storage, saver, null);
+    }
+
+    /**
+     * Creates a {@code LogicManager} like {@link #LogicManager(Model, Storage, AsyncEPiggySaver)}, whose model is
+     * still being loaded by {@code loader}. Commands which need all the ePiggy data wait for {@code loader} to
+     * finish before they are executed. If {@code loader} is null, the model is already fully loaded.
+     */
+    public LogicManager(Model model, Storage storage, AsyncEPiggySaver saver, ProgressiveEPiggyLoader loader) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
+        this.loader = loader;
         history = new CommandHistory();
-        ePiggyParser = new EPiggyParser();
+        metrics = new CommandMetrics();
+        ePiggyParser = new EPiggyParser(metrics);
 
         // Set addressBookModified to true whenever the models' address book is modified.
         model.getEPiggy().addListener(observable -> addressBookModified = true);
+        changeRecorder = new EPiggyChangeRecorder(model.getEPiggy());
+        if (saver != null) {
+            saver.start(model.getEPiggy());
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        addressBookModified = false;
 
-        CommandResult commandResult;
+        long startTime = System.nanoTime();
+        String commandType = null;
         try {
-            Command command = ePiggyParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            CommandResult commandResult;
+            try {
+                Command command = ePiggyParser.parseCommand(commandText);
+                commandType = CommandMetrics.getCommandType(command);
+                metrics.record(commandType, Stage.PARSE, System.nanoTime() - startTime);
+                if (loader != null && command.needsFullData()) {
+                    awaitFullData();
+                }
+                addressBookModified = false;
+                commandResult = executeCommand(command, commandType);
+            } finally {
+                if (!commandText.isEmpty()) {
+                    history.add(commandText);
+                }
+            }
+
+            if (addressBookModified) {
+                long persistStartTime = System.nanoTime();
+                try {
+                    saveEPiggy();
+                } finally {
+                    metrics.record(commandType, Stage.PERSIST, System.nanoTime() - persistStartTime);
+                }
+            }
+            return commandResult;
         } finally {
-            if (!commandText.isEmpty()) {
-                history.add(commandText);
+            if (commandType != null) {
+                metrics.record(commandType, Stage.TOTAL, System.nanoTime() - startTime);
             }
         }
+    }
 
-        if (addressBookModified) {
-            logger.info("ePiggy modified, saving to file.");
-            try {
-                storage.saveEPiggy(model.getEPiggy());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+    /**
+     * Executes {@code command}, and records the time taken under {@code commandType}.
+     */
+    private CommandResult executeCommand(Command command, String commandType) throws CommandException {
+        long executeStartTime = System.nanoTime();
+        try {
+            return command.execute(model, history);
+        } finally {
+            metrics.record(commandType, Stage.EXECUTE, System.nanoTime() - executeStartTime);
+        }
+    }
+
+    /**
+     * Saves the changes made to the ePiggy data since the last save, in the background if there is a saver.
+     */
+    private void saveEPiggy() throws CommandException {
+        EPiggyChanges changes = changeRecorder.takeChanges();
+        if (saver != null) {
+            logger.info("ePiggy modified, saving to file in the background.");
+            if (!changes.isEmpty()) {
+                saver.requestSave(changes);
             }
+            return;
+        }
+        logger.info("ePiggy modified, saving to file.");
+        try {
+            storage.saveEPiggyChanges(model.getEPiggy(), Collections.singletonList(changes));
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        }
+    }
+
+    /**
+     * Waits for the loader to insert all the older expenses into the model.
+     */
+    private void awaitFullData() throws CommandException {
+        try {
+            loader.awaitFullData();
+        } catch (DataConversionException e) {
+            throw new CommandException(LOAD_ERROR_MESSAGE + e, e);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void addSaveFailureListener(Consumer<IOException> listener) {
+        if (saver != null) {
+            saver.addFailureListener(listener);
+        }
     }
 
     @Override
@@ -110,6 +214,11 @@ public class LogicManager implements Logic {
         return history.getHistory();
     }
 
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return metrics;
+    }
+
     @Override
     public Path getEPiggyFilePath() {
         return model.getEPiggyFilePath();
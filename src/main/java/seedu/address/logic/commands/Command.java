@@ -19,4 +19,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Returns true if all the ePiggy data must be loaded before this command is executed.
+     * Commands which neither read nor change the ePiggy data can be executed while older expenses are still being
+     * loaded at startup.
+     */
+    public boolean needsFullData() {
+        return true;
+    }
+
 }
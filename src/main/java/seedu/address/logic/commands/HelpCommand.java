@@ -26,4 +26,9 @@ public class HelpCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
         return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
     }
+
+    @Override
+    public boolean needsFullData() {
+        return false;
+    }
 }
@@ -31,4 +31,8 @@ public class HistoryCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
     }
 
+    @Override
+    public boolean needsFullData() {
+        return false;
+    }
 }
@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each type of command has taken to run since the app was launched.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String COMMAND_ALIAS = "stat";
+
+    private final CommandMetrics metrics;
+
+    public StatsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        return new CommandResult(metrics.getSummary());
+    }
+
+    @Override
+    public boolean needsFullData() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && metrics == ((StatsCommand) other).metrics); // state check
+    }
+}
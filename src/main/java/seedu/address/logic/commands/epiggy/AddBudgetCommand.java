@@ -16,6 +16,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.UniqueBudgetList;
 
 //@@author tehwenyi
 
@@ -63,40 +64,20 @@ public class AddBudgetCommand extends Command {
         Date endDate = toAdd.getEndDate();
 
         List<Budget> currentList = model.getFilteredBudgetList();
-        if (currentList.size() == 0) {
-            model.addBudget(0, toAdd);
-            model.commitEPiggy();
-            return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        // As existing budgets do not overlap, only the budgets just before and after the new budget can overlap it.
+        int index = UniqueBudgetList.getInsertionIndex(currentList, startDate);
+        if (index > 0 && model.budgetsOverlap(startDate, endDate, currentList.get(index - 1))) {
+            throw new CommandException(MESSAGE_OVERLAPPING_BUDGET);
         }
-
-        int index = 0;
-        Budget earlierBudget;
-        Budget laterBudget = currentList.get(0);
-        while (index < currentList.size()) {
-            earlierBudget = currentList.get(index);
-            if (index > 0) {
-                laterBudget = currentList.get(index - 1);
-            }
-            if (model.budgetsOverlap(startDate, endDate, earlierBudget)) {
-                throw new CommandException(MESSAGE_OVERLAPPING_BUDGET);
-            }
-            if (!startDate.before(earlierBudget.getEndDate())) {
-                if (index == 0 || !endDate.after(laterBudget.getStartDate())) {
-                    model.addBudget(index, toAdd);
-                    model.commitEPiggy();
-                    return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
-                } else {
-                    throw new CommandException(MESSAGE_OVERLAPPING_BUDGET);
-                }
-            }
-            index++;
+        if (index < currentList.size() && model.budgetsOverlap(startDate, endDate, currentList.get(index))) {
+            throw new CommandException(MESSAGE_OVERLAPPING_BUDGET);
         }
-        if (index < MAXIMUM_SIZE) {
-            model.addBudget(index, toAdd);
-            model.commitEPiggy();
-            return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        if (index == currentList.size() && index >= MAXIMUM_SIZE) {
+            return new CommandResult(MESSAGE_FAIL);
         }
-        return new CommandResult(MESSAGE_FAIL);
+        model.addBudget(index, toAdd);
+        model.commitEPiggy();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
     }
 
     @Override
@@ -8,6 +8,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
 import seedu.address.model.epiggy.ExpenseContainsKeywordsPredicate;
+import seedu.address.model.epiggy.IndexedKeywordsPredicate;
 
 
 //@@author rahulb99
@@ -35,7 +36,12 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredExpensesList(predicate);
+        if (predicate.hasIndexedKeywords()) {
+            model.updateFilteredExpensesList(
+                    new IndexedKeywordsPredicate(predicate, model.getEPiggy().getExpenseKeywordIndex()));
+        } else {
+            model.updateFilteredExpensesList(predicate);
+        }
         model.commitEPiggy();
 
         return new CommandResult(
@@ -2,20 +2,18 @@ package seedu.address.logic.commands.epiggy;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
 import java.util.Objects;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.epiggy.Expense;
-
+import seedu.address.model.epiggy.comparators.ExpenseSort;
 
 //@@author rahulb99
 /**
- * Finds and lists all expenses in EPiggy whose expense contains any of the argument keywordss.
- * keywords matching is case insensitive.
+ * Lists all expenses in EPiggy sorted by one or more keys, each key breaking the ties of the keys before it.
+ * Only the order in which the expenses are shown is changed, so the command is not undoable.
  */
 public class SortCommand extends Command {
 
@@ -23,32 +21,27 @@ public class SortCommand extends Command {
     public static final String COMMAND_ALIAS = "st";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + " : Sorts the expenses as specified by the user, according to name, cost, or date. \n"
+            + "Later keys are used to sort the expenses which are the same by the earlier keys.\n"
             + " Parameters: [n/d/$]/...\n"
-            + " Example: " + COMMAND_WORD + " n/";
+            + " Example: " + COMMAND_WORD + " n/, " + COMMAND_WORD + " d/ $/";
     public static final String MESSAGE_SUCCESS = "Sorted %1$d expenses.";
 
-    private final Comparator<Expense> expenseComparator;
+    private final ExpenseSort expenseSort;
 
-    public SortCommand(Comparator<Expense> expenseComparator) {
-        assert expenseComparator != null : "keywords should not be null.";
-        this.expenseComparator = expenseComparator;
+    public SortCommand(ExpenseSort expenseSort) {
+        assert expenseSort != null : "sort should not be null.";
+        this.expenseSort = expenseSort;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.sortExpenses(expenseComparator);
+        model.sortExpenses(expenseSort);
         model.updateFilteredExpensesList(Model.PREDICATE_SHOW_ALL_EXPENSES);
-        model.commitEPiggy();
 
         return new CommandResult(
                 String.format(MESSAGE_SUCCESS, model.getFilteredExpenseList().size()));
     }
-    /*
-    public Comparator<Expense> getExpenseComparator() {
-        return expenseComparator;
-    }
-    */
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -58,16 +51,16 @@ public class SortCommand extends Command {
             return false;
         }
         SortCommand that = (SortCommand) o;
-        return Objects.equals(expenseComparator, that.expenseComparator);
+        return Objects.equals(expenseSort, that.expenseSort);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(expenseComparator);
+        return Objects.hash(expenseSort);
     }
 
     @Override
     public String toString() {
-        return expenseComparator.toString();
+        return expenseSort.toString();
     }
 }
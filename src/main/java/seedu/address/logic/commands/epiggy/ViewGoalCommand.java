@@ -2,7 +2,6 @@ package seedu.address.logic.commands.epiggy;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.beans.property.SimpleObjectProperty;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -33,20 +32,17 @@ public class ViewGoalCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        SimpleObjectProperty<Cost> savings = model.getSavings();
-        SimpleObjectProperty<Goal> goal = model.getGoal();
+        Cost savings = model.getSavings().get();
+        Goal goal = model.getGoal().get();
 
-        double goalAmount = goal.getValue().getAmount().getAmount();
-        double savingsAmount = savings.getValue().getAmount();
+        Cost diff = goal.getAmount().deduct(savings);
 
-        double diff = goalAmount - savingsAmount;
-
-        if (diff < 0) {
+        if (diff.isNegative()) {
             return new CommandResult(String.format(MESSAGE_SUCCESS
-                    + MESSAGE_SAVINGS_MORE_THAN_GOAL, goal.getValue()));
+                    + MESSAGE_SAVINGS_MORE_THAN_GOAL, goal));
         } else {
             return new CommandResult(String.format(MESSAGE_SUCCESS
-                    + MESSAGE_SAVINGS_LESS_THAN_GOAL, goal.getValue(), diff));
+                    + MESSAGE_SAVINGS_LESS_THAN_GOAL, goal, diff.getAmount()));
         }
     }
 }
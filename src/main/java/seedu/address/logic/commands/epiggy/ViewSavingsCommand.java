@@ -2,7 +2,6 @@ package seedu.address.logic.commands.epiggy;
 
 import static java.util.Objects.requireNonNull;
 
-import javafx.beans.property.SimpleObjectProperty;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -29,7 +28,7 @@ public class ViewSavingsCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
 
         requireNonNull(model);
-        SimpleObjectProperty<Cost> savings = model.getSavings();
-        return new CommandResult(String.format(MESSAGE_SUCCESS, savings.getValue()));
+        Cost savings = model.getSavings().get();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, savings));
     }
 }
@@ -1,11 +1,13 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
@@ -13,6 +15,7 @@ import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.epiggy.AddAllowanceCommand;
 import seedu.address.logic.commands.epiggy.AddBudgetCommand;
@@ -53,6 +56,23 @@ public class EPiggyParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    private final CommandMetrics metrics;
+
+    /**
+     * Creates a parser whose {@code stats} commands show the latencies in a new {@code CommandMetrics}.
+     */
+    public EPiggyParser() {
+        this(new CommandMetrics());
+    }
+
+    /**
+     * Creates a parser whose {@code stats} commands show the latencies in {@code metrics}.
+     */
+    public EPiggyParser(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -118,6 +138,10 @@ public class EPiggyParser {
         case HistoryCommand.COMMAND_ALIAS:
             return new HistoryCommand();
 
+        case StatsCommand.COMMAND_WORD:
+        case StatsCommand.COMMAND_ALIAS:
+            return new StatsCommand(metrics);
+
         case ExitCommand.COMMAND_WORD:
         case ExitCommand.COMMAND_ALIAS:
             return new ExitCommand();
@@ -8,12 +8,17 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.ParserUtil.validateKeywords;
 
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
 import seedu.address.logic.commands.epiggy.FindCommand;
 import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.epiggy.ExpenseContainsKeywordsPredicate;
+import seedu.address.model.epiggy.FindQuery;
+import seedu.address.model.epiggy.item.Cost;
 
 //@@author rahulb99
 /**
@@ -51,8 +56,60 @@ public class FindCommandParser implements Parser<FindCommand> {
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_COST, PREFIX_TAG, PREFIX_DATE);
         validateKeywords(keywordsMap);
 
-        ExpenseContainsKeywordsPredicate predicate = new ExpenseContainsKeywordsPredicate(keywordsMap);
+        ExpenseContainsKeywordsPredicate predicate = new ExpenseContainsKeywordsPredicate(compileQuery(keywordsMap));
         return new FindCommand(predicate);
     }
 
+    /**
+     * Compiles the keywords in {@code keywordsMap} into a {@code FindQuery}, parsing the cost and date keywords once
+     * so that testing an expense only compares its fields with the parsed keywords.
+     * A cost or date keyword may be an exact value or a range of values separated by a colon.
+     * @throws ParseException if the cost or date keyword cannot be parsed
+     */
+    public static FindQuery compileQuery(ArgumentMultimap keywordsMap) throws ParseException {
+        requireNonNull(keywordsMap);
+        FindQuery query = new FindQuery(keywordsMap.getAllValues(PREFIX_NAME), keywordsMap.getAllValues(PREFIX_TAG));
+
+        String costKeywords = keywordsMap.getValue(PREFIX_COST).orElse("");
+        if (!costKeywords.isEmpty()) {
+            String[] splitCost = costKeywords.split(":");
+            long lowerBound = toCents(splitCost[0]);
+            long higherBound = splitCost.length == 1 ? lowerBound : toCents(splitCost[1]);
+            query = query.withCostRange(lowerBound, higherBound);
+        }
+
+        String dateKeywords = keywordsMap.getValue(PREFIX_DATE).orElse("");
+        if (!dateKeywords.isEmpty()) {
+            String[] splitDate = dateKeywords.split(":");
+            Date startDate = toDate(splitDate[0]);
+            Date endDate = splitDate.length == 1 ? startDate : toDate(splitDate[1]);
+            query = query.withDateRange(startDate, endDate);
+        }
+        return query;
+    }
+
+    /**
+     * Parses {@code cost} into a number of cents.
+     * @throws ParseException if {@code cost} is not a valid cost
+     */
+    private static long toCents(String cost) throws ParseException {
+        try {
+            return new Cost(Double.parseDouble(cost)).getAmountInCents();
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(Cost.MESSAGE_CONSTRAINTS, e);
+        }
+    }
+
+    /**
+     * Parses {@code date}, in the dd/MM/yyyy format, into the start of that day.
+     * @throws ParseException if {@code date} is not in the dd/MM/yyyy format
+     */
+    private static Date toDate(String date) throws ParseException {
+        try {
+            return new SimpleDateFormat("dd/MM/yyyy").parse(date);
+        } catch (java.text.ParseException e) {
+            throw new ParseException("Invalid Date", e);
+        }
+    }
+
 }
@@ -5,21 +5,14 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.logic.parser.CliSyntax.PREFIX_COST;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
-import static seedu.address.logic.parser.ParserUtil.validateKeywordsForSort;
 
-import java.util.Comparator;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.logic.commands.epiggy.SortCommand;
-import seedu.address.logic.parser.ArgumentMultimap;
-import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
-import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.epiggy.Expense;
-import seedu.address.model.epiggy.comparators.CompareExpenseByCost;
-import seedu.address.model.epiggy.comparators.CompareExpenseByDate;
-import seedu.address.model.epiggy.comparators.CompareExpenseByName;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
 
 //@@author rahulb99
 /**
@@ -30,6 +23,7 @@ public class SortCommandParser implements Parser<SortCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns an SortCommand object for execution.
+     * The arguments are one or more of the name, cost and date prefixes without values, in order of precedence.
      * @throws ParseException if the user input does not conform the expected format
      */
     public SortCommand parse(String args) throws ParseException {
@@ -40,48 +34,31 @@ public class SortCommandParser implements Parser<SortCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         }
 
-        //Check whether the user follow the pattern
-        if (!trimmedArgs.contains("/")) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        }
-
-        String[] splitTrimmedArgs = trimmedArgs.split("/");
-        if (splitTrimmedArgs[0].equals("")) {
-            //Ensure args contains at least one prefix
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        }
-        if (!(splitTrimmedArgs.length == 1)) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+        List<ExpenseSort.Key> keys = new ArrayList<>();
+        for (String keyword : trimmedArgs.split("\\s+")) {
+            ExpenseSort.Key key = parseKey(keyword);
+            if (keys.contains(key)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
+            keys.add(key);
         }
-
-        ArgumentMultimap keywordsMap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_COST, PREFIX_DATE);
-        validateKeywordsForSort(keywordsMap);
-        Comparator<Expense> comparator = null;
-
-        if (arePrefixesPresent(keywordsMap, PREFIX_NAME)) {
-            comparator = new CompareExpenseByName();
-        } else if (arePrefixesPresent(keywordsMap, PREFIX_DATE)) {
-            comparator = new CompareExpenseByDate();
-        } else if (arePrefixesPresent(keywordsMap, PREFIX_COST)) {
-            comparator = new CompareExpenseByCost();
-        } else {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        }
-
-        return new SortCommand(comparator);
+        return new SortCommand(new ExpenseSort(keys));
     }
 
     /**
-     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
-     * {@code ArgumentMultimap}.
+     * Returns the sort key of {@code keyword}, which must be one of the name, cost and date prefixes.
+     * @throws ParseException if {@code keyword} is not one of the prefixes.
      */
-    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
-        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    private static ExpenseSort.Key parseKey(String keyword) throws ParseException {
+        if (keyword.equals(PREFIX_NAME.getPrefix())) {
+            return ExpenseSort.Key.NAME;
+        } else if (keyword.equals(PREFIX_DATE.getPrefix())) {
+            return ExpenseSort.Key.DATE;
+        } else if (keyword.equals(PREFIX_COST.getPrefix())) {
+            return ExpenseSort.Key.COST;
+        }
+        throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
     }
-
 }
@@ -5,7 +5,6 @@ import static java.util.Objects.requireNonNull;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -18,8 +17,10 @@ import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.epiggy.Allowance;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.ExpenseKeywordIndex;
 import seedu.address.model.epiggy.ExpenseList;
 import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.ReportRollups;
 import seedu.address.model.epiggy.UniqueBudgetList;
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.epiggy.item.Item;
@@ -38,7 +39,10 @@ public class EPiggy implements ReadOnlyEPiggy {
     private SimpleObjectProperty<Goal> goal;
     private final UniquePersonList persons;
     private final UniqueBudgetList budgetList;
+    private final ReportRollups reportRollups;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private int batchDepth;
+    private boolean isModifiedInBatch;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -53,6 +57,8 @@ public class EPiggy implements ReadOnlyEPiggy {
         budgetList = new UniqueBudgetList();
         persons = new UniquePersonList();
         goal = new SimpleObjectProperty<>();
+        reportRollups = ReportRollups.observe(expenses.asUnmodifiableObservableList(),
+                budgetList.asUnmodifiableObservableList());
 
     }
 
@@ -96,14 +102,92 @@ public class EPiggy implements ReadOnlyEPiggy {
         indicateModified();
     }
 
+    /**
+     * Replaces the expenses from index {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * Used to revert or reapply a change to the expense list without replacing the whole list.
+     */
+    protected void replaceExpenses(int from, int to, List<Expense> replacement) {
+        expenses.replaceRange(from, to, replacement);
+    }
+
+    /**
+     * Replaces the budgets from index {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * Used to revert or reapply a change to the budget list without replacing the whole list.
+     */
+    protected void replaceBudgets(int from, int to, List<Budget> replacement) {
+        budgetList.replaceRange(from, to, replacement);
+    }
+
     /**
      * Resets the existing data of this {@code EPiggy} with {@code newData}.
      */
     public void resetData(ReadOnlyEPiggy newData) {
         requireNonNull(newData);
-        setExpenses(newData.getExpenseList());
-        setGoal(newData.getGoal().get());
-        addBudgetList(newData.getBudgetList());
+        batch(() -> {
+            setExpenses(newData.getExpenseList());
+            setGoal(newData.getGoal().get());
+            addBudgetList(newData.getBudgetList());
+        });
+    }
+
+    /**
+     * Replaces the existing data of this {@code EPiggy} with {@code expenses}, {@code budgets} and {@code goal},
+     * as read from storage.
+     * Unlike adding the expenses and budgets one by one, the expense list is only replaced once, the remaining
+     * amounts of all the budgets are computed in a single pass over the expenses sorted by date, and listeners are
+     * only notified once.
+     * {@code budgets} must not overlap, as budgets added through commands do not.
+     */
+    public void loadData(List<Expense> expenses, List<Budget> budgets, Goal goal) {
+        requireNonNull(expenses);
+        requireNonNull(budgets);
+        List<Budget> loadedBudgets = budgets.stream().map(Budget::new).collect(Collectors.toList());
+        computeRemainingAmounts(expenses, loadedBudgets);
+
+        batch(() -> {
+            this.expenses.setExpenses(expenses);
+            budgetList.addBudgetList(loadedBudgets);
+            this.goal.setValue(goal);
+            indicateModified();
+        });
+    }
+
+    /**
+     * Computes the remaining amounts and days of {@code budgets} from {@code expenses}, by merging the expenses and
+     * the budgets in the order of their dates.
+     * As the budgets do not overlap, the budgets sorted by their start dates are also sorted by their end dates,
+     * so each expense only has to be compared with the budgets ending after the previous expense.
+     */
+    private void computeRemainingAmounts(List<Expense> expenses, List<Budget> budgets) {
+        List<Budget> budgetsByDate = budgets.stream()
+                .sorted(Comparator.comparing(Budget::getStartDate))
+                .collect(Collectors.toList());
+        for (Budget budget : budgetsByDate) {
+            budget.setRemainingDays(calculateRemainingDays(budget));
+            budget.resetRemainingAmount();
+        }
+        if (budgetsByDate.isEmpty()) {
+            return;
+        }
+
+        List<Expense> expensesByDate = expenses.stream()
+                .filter(expense -> !(expense instanceof Allowance))
+                .sorted(Comparator.comparing(Expense::getDate))
+                .collect(Collectors.toList());
+        int budgetIndex = 0;
+        for (Expense expense : expensesByDate) {
+            while (budgetIndex < budgetsByDate.size() && !budgetsByDate.get(budgetIndex).getEndDate()
+                    .after(expense.getDate())) {
+                budgetIndex++;
+            }
+            if (budgetIndex == budgetsByDate.size()) {
+                break;
+            }
+            Budget budget = budgetsByDate.get(budgetIndex);
+            if (budget.containsDate(expense.getDate())) {
+                budget.deductRemainingAmount(expense.getItem().getCost());
+            }
+        }
     }
 
     //// person-level operations
@@ -130,23 +214,53 @@ public class EPiggy implements ReadOnlyEPiggy {
      */
     public void addExpense(Expense expense) {
         expenses.add(expense);
-        if (budgetList.getBudgetListSize() > 0) {
-            updateBudgetList(expense);
-        }
+        updateBudgetList(expense, true);
         indicateModified();
     }
 
     //@@author tehwenyi
     /**
      * Updates the budgetList. Called every time an expense is added, edited or deleted.
+     * Only the remaining amount of the budget containing the date of {@code expense} is adjusted,
+     * so the other expenses do not have to be looked at again.
+     * @param expense that was added or removed.
+     * @param isAdded true if {@code expense} was added, false if it was removed.
      */
-    private void updateBudgetList(Expense expense) {
+    private void updateBudgetList(Expense expense, boolean isAdded) {
+        if (expense instanceof Allowance || budgetList.getBudgetListSize() == 0) {
+            return;
+        }
         int indexOfBudgetToEdit = budgetList.getBudgetIndexBasedOnDate(expense.getDate());
-        if (indexOfBudgetToEdit >= 0) {
-            Budget budgetToEdit = budgetList.getBudgetAtIndex(indexOfBudgetToEdit);
-            Budget editedBudget = updateBudget(budgetToEdit);
-            budgetList.replaceAtIndex(indexOfBudgetToEdit, editedBudget);
+        if (indexOfBudgetToEdit < 0) {
+            return;
+        }
+        Budget budgetToEdit = budgetList.getBudgetAtIndex(indexOfBudgetToEdit);
+        if (!budgetToEdit.containsDate(expense.getDate())) {
+            return;
         }
+        Budget editedBudget = new Budget(budgetToEdit);
+        editedBudget.setRemainingDays(calculateRemainingDays(editedBudget));
+        if (isAdded) {
+            editedBudget.deductRemainingAmount(expense.getItem().getCost());
+        } else {
+            editedBudget.addRemainingAmount(expense.getItem().getCost());
+        }
+        budgetList.replaceAtIndex(indexOfBudgetToEdit, editedBudget);
+    }
+
+    /**
+     * Inserts {@code olderExpenses}, which were read from storage after the rest of the data, at {@code index} of
+     * the expense list.
+     * The budgets containing the dates of the inserted expenses are updated.
+     */
+    public void addOlderExpenses(int index, List<Expense> olderExpenses) {
+        batch(() -> {
+            expenses.replaceRange(index, index, olderExpenses);
+            for (Expense expense : olderExpenses) {
+                updateBudgetList(expense, true);
+            }
+            indicateModified();
+        });
     }
 
     /**
@@ -159,7 +273,7 @@ public class EPiggy implements ReadOnlyEPiggy {
     }
 
     public SimpleObjectProperty<Cost> getSavings() {
-        return new SimpleObjectProperty<>(new Cost(expenses.getTotalSavings()));
+        return expenses.getSavings();
     }
 
     //@@author tehwenyi
@@ -191,13 +305,14 @@ public class EPiggy implements ReadOnlyEPiggy {
      */
     public void deleteExpense(Expense toDelete) {
         expenses.remove(toDelete);
-        updateBudgetList(toDelete);
+        updateBudgetList(toDelete, false);
         indicateModified();
     }
 
     //@@author tehwenyi
     /**
-     * Updates the remaining amount and days of the budget.
+     * Recalculates the remaining amount and days of the budget from all the expenses.
+     * Only needed when a budget itself is added or changed; expense changes are applied as deltas.
      * Allowances in the Expense list does not affect the budget.
      * @param budget to be updated.
      * @return updated budget.
@@ -206,17 +321,9 @@ public class EPiggy implements ReadOnlyEPiggy {
         budget.setRemainingDays(calculateRemainingDays(budget));
 
         budget.resetRemainingAmount();
-        SortedList<Expense> sortedExpensesByDate = sortExpensesByDate();
-        ListIterator<Expense> iterator = sortedExpensesByDate.listIterator();
-        for (Expense expense : sortedExpensesByDate) {
-            if (!expense.getDate().before(budget.getStartDate())) {
-                if (budget.getEndDate().after(expense.getDate())) {
-                    if (!(expense instanceof Allowance)) {
-                        budget.deductRemainingAmount(expense.getItem().getCost());
-                    }
-                } else {
-                    return budget;
-                }
+        for (Expense expense : expenses) {
+            if (!(expense instanceof Allowance) && budget.containsDate(expense.getDate())) {
+                budget.deductRemainingAmount(expense.getItem().getCost());
             }
         }
         return budget;
@@ -263,10 +370,6 @@ public class EPiggy implements ReadOnlyEPiggy {
         return expenses.sortByDate();
     }
 
-    public void sortExpense(Comparator<Expense> comparator) {
-        expenses.sort(comparator);
-    }
-
     /**
      * Replaces the given expense {@code target} in the list with {@code editedExpense}.
      * {@code target} must exist in the expense tracker.
@@ -276,8 +379,8 @@ public class EPiggy implements ReadOnlyEPiggy {
     public void setExpense(Expense target, Expense editedExpense) {
         requireNonNull(editedExpense);
         expenses.setExpense(target, editedExpense);
-        updateBudgetList(editedExpense);
-        updateBudgetList(target);
+        updateBudgetList(target, false);
+        updateBudgetList(editedExpense, true);
         indicateModified();
     }
 
@@ -349,9 +452,56 @@ public class EPiggy implements ReadOnlyEPiggy {
     }
 
     /**
-     * Notifies listeners that the address book has been modified.
+     * Starts a batch of changes. Until the batch ends, listeners of this {@code EPiggy} and of its expense and budget
+     * lists are not notified. Batches can be nested, and every call must be followed by a call to {@link #endBatch()}.
+     * The totals, keyword index and report rollups of the expenses are only updated when the batch ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+        expenses.beginBatch();
+        budgetList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the last call to {@link #beginBatch()}. If it is the outermost batch, listeners of
+     * each list are notified once with a single change holding all the changes made to the list in the batch, and
+     * listeners of this {@code EPiggy} are notified once if it was modified.
+     *
+     * @throws IllegalStateException if there is no batch to end.
+     */
+    public void endBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("There is no batch to end.");
+        }
+        batchDepth--;
+        expenses.endBatch();
+        budgetList.endBatch();
+        if (batchDepth == 0 && isModifiedInBatch) {
+            isModifiedInBatch = false;
+            indicateModified();
+        }
+    }
+
+    /**
+     * Makes the changes in {@code changes} as a single batch.
+     */
+    public void batch(Runnable changes) {
+        beginBatch();
+        try {
+            changes.run();
+        } finally {
+            endBatch();
+        }
+    }
+
+    /**
+     * Notifies listeners that the address book has been modified, or when the current batch ends if there is one.
      */
     protected void indicateModified() {
+        if (batchDepth > 0) {
+            isModifiedInBatch = true;
+            return;
+        }
         invalidationListenerManager.callListeners(this);
     }
 
@@ -373,6 +523,16 @@ public class EPiggy implements ReadOnlyEPiggy {
         return expenses.asUnmodifiableObservableList();
     }
 
+    @Override
+    public ExpenseKeywordIndex getExpenseKeywordIndex() {
+        return expenses.getKeywordIndex();
+    }
+
+    @Override
+    public ReportRollups getReportRollups() {
+        return reportRollups;
+    }
+
     @Override
     public ObservableList<Item> getItemList() {
         return FXCollections.unmodifiableObservableList(items);
@@ -398,8 +558,4 @@ public class EPiggy implements ReadOnlyEPiggy {
     public int hashCode() {
         return persons.hashCode();
     }
-
-    public void reverseExpenseList() {
-        expenses.reverse();
-    }
 }
@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+
+/**
+ * Records the changes made to an epiggy from the change events of its expense list, budget list and goal, so that
+ * they can be saved without comparing or copying the whole epiggy.
+ * The changed expenses are tracked as the range between the longest unchanged prefix and suffix of the expense
+ * list, so recording a change takes constant time, and taking the changes copies only the changed expenses.
+ * The changed budgets are tracked in the same way, except that replacing budgets with equal ones is not recorded,
+ * as only their remaining amounts, which are computed from the expenses, can have changed.
+ * The changes must be made and taken on the thread which changes the epiggy.
+ */
+public class EPiggyChangeRecorder {
+
+    private final ReadOnlyEPiggy ePiggy;
+    private final ChangedRange expenseRange;
+    private final ChangedRange budgetRange;
+    private boolean isGoalChanged;
+
+    /**
+     * Creates a recorder of the changes made to {@code ePiggy} from now on.
+     */
+    public EPiggyChangeRecorder(ReadOnlyEPiggy ePiggy) {
+        requireNonNull(ePiggy);
+        this.ePiggy = ePiggy;
+        expenseRange = new ChangedRange(ePiggy.getExpenseList().size());
+        budgetRange = new ChangedRange(ePiggy.getBudgetList().size());
+        ePiggy.getExpenseList().addListener(this::onExpensesChanged);
+        ePiggy.getBudgetList().addListener(this::onBudgetsChanged);
+        ePiggy.getGoal().addListener((observable, oldGoal, newGoal) -> isGoalChanged = true);
+    }
+
+    private void onExpensesChanged(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            expenseRange.record(change);
+        }
+    }
+
+    /**
+     * Records the budgets in {@code change}, unless they were only replaced by equal budgets.
+     */
+    private void onBudgetsChanged(ListChangeListener.Change<? extends Budget> change) {
+        while (change.next()) {
+            if (!change.wasReplaced() || !change.getRemoved().equals(change.getAddedSubList())) {
+                budgetRange.record(change);
+            }
+        }
+    }
+
+    /**
+     * Returns the changes made since the changes were last taken, or since this recorder was created, and starts
+     * recording the next changes.
+     */
+    public EPiggyChanges takeChanges() {
+        List<Expense> expenses = ePiggy.getExpenseList();
+        List<Budget> budgets = ePiggy.getBudgetList();
+        assert expenses.size() == expenseRange.count : "Expense changes were not all recorded";
+        assert budgets.size() == budgetRange.count : "Budget changes were not all recorded";
+
+        EPiggyChanges changes = new EPiggyChanges(expenseRange.oldCount, expenseRange.getFrom(),
+                expenseRange.getRemovedCount(), expenseRange.getAdded(expenses),
+                budgetRange.oldCount, budgetRange.getFrom(), budgetRange.getRemovedCount(),
+                budgetRange.getAdded(budgets), isGoalChanged, ePiggy.getGoal().get());
+
+        expenseRange.reset();
+        budgetRange.reset();
+        isGoalChanged = false;
+        return changes;
+    }
+
+    /**
+     * The range of a list between its longest unchanged prefix and suffix since the changes were last taken.
+     */
+    private static class ChangedRange {
+        /** The number of elements when the changes were last taken. */
+        private int oldCount;
+        /** The number of elements after the changes recorded so far. */
+        private int count;
+        private boolean isChanged;
+        /** The number of elements at the start and end of the list which have not changed, if any have. */
+        private int unchangedPrefix;
+        private int unchangedSuffix;
+
+        ChangedRange(int count) {
+            this.count = count;
+            oldCount = count;
+        }
+
+        /**
+         * Narrows the unchanged prefix and suffix to exclude the elements in the current step of {@code change}.
+         */
+        void record(ListChangeListener.Change<?> change) {
+            int from = change.getFrom();
+            int addedSize = change.getTo() - from;
+            int removedSize = change.wasPermutated() || change.wasUpdated() ? addedSize : change.getRemovedSize();
+            count += addedSize - removedSize;
+            if (!isChanged) {
+                isChanged = true;
+                unchangedPrefix = Integer.MAX_VALUE;
+                unchangedSuffix = Integer.MAX_VALUE;
+            }
+            unchangedPrefix = Math.min(unchangedPrefix, from);
+            unchangedSuffix = Math.min(unchangedSuffix, count - from - addedSize);
+        }
+
+        int getFrom() {
+            return isChanged ? unchangedPrefix : oldCount;
+        }
+
+        int getRemovedCount() {
+            return isChanged ? oldCount - unchangedPrefix - unchangedSuffix : 0;
+        }
+
+        /**
+         * Returns the elements of {@code list} which the recorded changes added.
+         */
+        <E> List<E> getAdded(List<E> list) {
+            return isChanged ? list.subList(unchangedPrefix, count - unchangedSuffix) : Collections.emptyList();
+        }
+
+        void reset() {
+            oldCount = count;
+            isChanged = false;
+        }
+    }
+}
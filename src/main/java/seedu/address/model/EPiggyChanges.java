@@ -0,0 +1,179 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.Goal;
+
+/**
+ * The changes made to an epiggy since it was last saved, as recorded by an {@code EPiggyChangeRecorder}.
+ * The expenses from index {@code from} onwards, {@code removedCount} of them, were replaced by the added expenses,
+ * and the budgets from index {@code budgetFrom} onwards, {@code removedBudgetCount} of them, by the added budgets.
+ * Changes to the remaining amounts of budgets alone are not held, as they are computed again from the expenses
+ * whenever the data is loaded. The goal is only held if it changed.
+ * The changes hold copies of the changed expenses and budgets, so they can be read from another thread while the
+ * epiggy keeps changing.
+ */
+public class EPiggyChanges {
+
+    private final int oldExpenseCount;
+    private final int from;
+    private final int removedCount;
+    private final List<Expense> addedExpenses;
+    private final int oldBudgetCount;
+    private final int budgetFrom;
+    private final int removedBudgetCount;
+    private final List<Budget> addedBudgets;
+    private final boolean isGoalChanged;
+    private final Goal goal;
+
+    /**
+     * Constructs the changes to an epiggy which had {@code oldExpenseCount} expenses and {@code oldBudgetCount}
+     * budgets.
+     *
+     * @param goal the goal after the changes, ignored if {@code isGoalChanged} is false.
+     */
+    public EPiggyChanges(int oldExpenseCount, int from, int removedCount, List<Expense> addedExpenses,
+                         int oldBudgetCount, int budgetFrom, int removedBudgetCount, List<Budget> addedBudgets,
+                         boolean isGoalChanged, Goal goal) {
+        requireNonNull(addedExpenses);
+        requireNonNull(addedBudgets);
+        checkRange("expenses", oldExpenseCount, from, removedCount);
+        checkRange("budgets", oldBudgetCount, budgetFrom, removedBudgetCount);
+        this.oldExpenseCount = oldExpenseCount;
+        this.from = from;
+        this.removedCount = removedCount;
+        this.addedExpenses = Collections.unmodifiableList(new ArrayList<>(addedExpenses));
+        this.oldBudgetCount = oldBudgetCount;
+        this.budgetFrom = budgetFrom;
+        this.removedBudgetCount = removedBudgetCount;
+        this.addedBudgets = Collections.unmodifiableList(
+                addedBudgets.stream().map(Budget::new).collect(Collectors.toList()));
+        this.isGoalChanged = isGoalChanged;
+        this.goal = isGoalChanged ? goal : null;
+    }
+
+    /**
+     * Throws an {@code IllegalArgumentException} if the {@code removedCount} elements from index {@code from} are
+     * not all within a list of {@code count} elements.
+     */
+    private static void checkRange(String elements, int count, int from, int removedCount) {
+        if (from < 0 || removedCount < 0 || from + removedCount > count) {
+            throw new IllegalArgumentException("Changed " + elements + " out of range: from " + from + ", removed "
+                    + removedCount + ", of " + count);
+        }
+    }
+
+    /**
+     * Returns the number of expenses before the changes.
+     */
+    public int getOldExpenseCount() {
+        return oldExpenseCount;
+    }
+
+    /**
+     * Returns the number of expenses after the changes.
+     */
+    public int getNewExpenseCount() {
+        return oldExpenseCount - removedCount + addedExpenses.size();
+    }
+
+    /**
+     * Returns the index of the first changed expense.
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<Expense> getAddedExpenses() {
+        return addedExpenses;
+    }
+
+    /**
+     * Returns the number of budgets before the changes.
+     */
+    public int getOldBudgetCount() {
+        return oldBudgetCount;
+    }
+
+    /**
+     * Returns the number of budgets after the changes.
+     */
+    public int getNewBudgetCount() {
+        return oldBudgetCount - removedBudgetCount + addedBudgets.size();
+    }
+
+    /**
+     * Returns the index of the first changed budget.
+     */
+    public int getBudgetFrom() {
+        return budgetFrom;
+    }
+
+    public int getRemovedBudgetCount() {
+        return removedBudgetCount;
+    }
+
+    public List<Budget> getAddedBudgets() {
+        return addedBudgets;
+    }
+
+    /**
+     * Returns true if any budgets were added, edited or removed.
+     */
+    public boolean isBudgetsChanged() {
+        return removedBudgetCount > 0 || !addedBudgets.isEmpty();
+    }
+
+    public boolean isGoalChanged() {
+        return isGoalChanged;
+    }
+
+    /**
+     * Returns the goal after the changes, or null if it did not change.
+     */
+    public Goal getGoal() {
+        return goal;
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return removedCount == 0 && addedExpenses.isEmpty() && !isBudgetsChanged() && !isGoalChanged;
+    }
+
+    /**
+     * Makes these changes to {@code ePiggy}.
+     * {@code ePiggy} must hold the data these changes were made to.
+     *
+     * @throws IllegalArgumentException if {@code ePiggy} does not have {@code oldExpenseCount} expenses and
+     *         {@code oldBudgetCount} budgets.
+     */
+    public void applyTo(ListBackedEPiggy ePiggy) {
+        requireNonNull(ePiggy);
+        if (ePiggy.getExpenseList().size() != oldExpenseCount) {
+            throw new IllegalArgumentException("Changes to " + oldExpenseCount + " expenses cannot be made to "
+                    + ePiggy.getExpenseList().size() + " expenses");
+        }
+        if (ePiggy.getBudgetList().size() != oldBudgetCount) {
+            throw new IllegalArgumentException("Changes to " + oldBudgetCount + " budgets cannot be made to "
+                    + ePiggy.getBudgetList().size() + " budgets");
+        }
+        ePiggy.replaceExpenses(from, from + removedCount, addedExpenses);
+        ePiggy.replaceBudgets(budgetFrom, budgetFrom + removedBudgetCount, addedBudgets);
+        if (isGoalChanged) {
+            ePiggy.setGoal(goal);
+        }
+    }
+}
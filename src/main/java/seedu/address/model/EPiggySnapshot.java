@@ -0,0 +1,113 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.ExpenseKeywordIndex;
+import seedu.address.model.epiggy.ExpenseList;
+import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.ReportRollups;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.model.epiggy.item.Item;
+import seedu.address.model.person.Person;
+
+/**
+ * An unchanging copy of the data in a {@code ReadOnlyEPiggy}, which can be read from another thread while the
+ * original keeps changing.
+ * Taking the snapshot only copies the references to the expenses, which cannot change, and copies the few budgets,
+ * which can. The keyword index, savings and report rollups are only built if they are asked for.
+ */
+public class EPiggySnapshot implements ReadOnlyEPiggy {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Expense> expenses;
+    private final ObservableList<Item> items;
+    private final ObservableList<Budget> budgets;
+    private final SimpleObjectProperty<Goal> goal;
+    private ExpenseList expenseList;
+    private ReportRollups reportRollups;
+
+    public EPiggySnapshot(ReadOnlyEPiggy source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        expenses = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getExpenseList()));
+        items = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getItemList()));
+        budgets = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(
+                source.getBudgetList().stream().map(Budget::new).collect(Collectors.toList())));
+        goal = new SimpleObjectProperty<>(source.getGoal().get());
+    }
+
+    /**
+     * Returns the expenses in an {@code ExpenseList}, building it the first time it is asked for.
+     */
+    private synchronized ExpenseList getExpenses() {
+        if (expenseList == null) {
+            expenseList = new ExpenseList();
+            expenseList.setExpenses(expenses);
+        }
+        return expenseList;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Expense> getExpenseList() {
+        return expenses;
+    }
+
+    @Override
+    public ObservableList<Item> getItemList() {
+        return items;
+    }
+
+    @Override
+    public ObservableList<Budget> getBudgetList() {
+        return budgets;
+    }
+
+    @Override
+    public ExpenseKeywordIndex getExpenseKeywordIndex() {
+        return getExpenses().getKeywordIndex();
+    }
+
+    @Override
+    public synchronized ReportRollups getReportRollups() {
+        if (reportRollups == null) {
+            reportRollups = new ReportRollups(expenses, budgets);
+        }
+        return reportRollups;
+    }
+
+    @Override
+    public ObservableValue<Cost> getSavings() {
+        return getExpenses().getSavings();
+    }
+
+    @Override
+    public SimpleObjectProperty<Goal> getGoal() {
+        return goal;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a snapshot never changes, so there is nothing to listen to
+    }
+}
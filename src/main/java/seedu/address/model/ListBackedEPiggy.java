@@ -0,0 +1,134 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.ExpenseKeywordIndex;
+import seedu.address.model.epiggy.ExpenseList;
+import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.ReportRollups;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.model.epiggy.item.Item;
+import seedu.address.model.person.Person;
+
+/**
+ * A copy of the expenses, budgets and goal of an epiggy held in plain lists, which {@code EPiggyChanges} can be made
+ * to without notifying any listeners.
+ * Unlike an {@code EPiggy}, it does not keep running totals, a keyword index or report rollups up to date as it
+ * changes, so it is cheap to keep in step with the epiggy it was copied from. The keyword index, savings and report
+ * rollups are built from the current data each time they are asked for. The remaining amounts of the budgets are
+ * not updated as expenses change, as they are computed again whenever the data is loaded.
+ * It must only be changed and read on one thread at a time.
+ */
+public class ListBackedEPiggy implements ReadOnlyEPiggy {
+
+    private final List<Expense> expenses;
+    private final List<Budget> budgets;
+    private final ObservableList<Expense> expenseView;
+    private final ObservableList<Budget> budgetView;
+    private final SimpleObjectProperty<Goal> goal;
+
+    /**
+     * Creates a copy of the expenses, budgets and goal of {@code source}.
+     */
+    public ListBackedEPiggy(ReadOnlyEPiggy source) {
+        requireNonNull(source);
+        expenses = new ArrayList<>(source.getExpenseList());
+        budgets = source.getBudgetList().stream().map(Budget::new).collect(Collectors.toCollection(ArrayList::new));
+        expenseView = FXCollections.unmodifiableObservableList(FXCollections.observableList(expenses));
+        budgetView = FXCollections.unmodifiableObservableList(FXCollections.observableList(budgets));
+        goal = new SimpleObjectProperty<>(source.getGoal().get());
+    }
+
+    /**
+     * Replaces the expenses from index {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     */
+    void replaceExpenses(int from, int to, List<Expense> replacement) {
+        List<Expense> replaced = expenses.subList(from, to);
+        replaced.clear();
+        replaced.addAll(replacement);
+    }
+
+    /**
+     * Replaces the budgets from index {@code from} (inclusive) to {@code to} (exclusive) with copies of
+     * {@code replacement}.
+     */
+    void replaceBudgets(int from, int to, List<Budget> replacement) {
+        List<Budget> replaced = budgets.subList(from, to);
+        replaced.clear();
+        replacement.forEach(budget -> replaced.add(new Budget(budget)));
+    }
+
+    void setGoal(Goal newGoal) {
+        goal.set(newGoal);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public ObservableList<Expense> getExpenseList() {
+        return expenseView;
+    }
+
+    @Override
+    public ObservableList<Item> getItemList() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public ObservableList<Budget> getBudgetList() {
+        return budgetView;
+    }
+
+    /**
+     * Returns the expenses in a new {@code ExpenseList}, which computes their totals and keyword index.
+     */
+    private ExpenseList toExpenseList() {
+        ExpenseList expenseList = new ExpenseList();
+        expenseList.setExpenses(expenses);
+        return expenseList;
+    }
+
+    @Override
+    public ExpenseKeywordIndex getExpenseKeywordIndex() {
+        return toExpenseList().getKeywordIndex();
+    }
+
+    @Override
+    public ReportRollups getReportRollups() {
+        return new ReportRollups(expenses, budgets);
+    }
+
+    @Override
+    public ObservableValue<Cost> getSavings() {
+        return toExpenseList().getSavings();
+    }
+
+    @Override
+    public SimpleObjectProperty<Goal> getGoal() {
+        return goal;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // a list-backed copy does not notify anyone of its changes
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // a list-backed copy does not notify anyone of its changes
+    }
+}
@@ -1,8 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -13,6 +13,7 @@ import seedu.address.model.epiggy.Allowance;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
 import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.person.Person;
 
@@ -95,6 +96,12 @@ public interface Model {
      */
     void addAllowance(Allowance allowance);
 
+    /**
+     * Inserts expenses read from storage after startup at {@code index} of the expense list.
+     * The inserted expenses are part of the initial data, so they cannot be undone.
+     */
+    void addOlderExpenses(int index, List<Expense> olderExpenses);
+
     /**
      * Adds a new budget.
      */
@@ -249,12 +256,13 @@ public interface Model {
     void setSelectedExpense(Expense expense);
 
     /**
-     * Sorts the expenses according to the specified {@param expenseComparator}.
+     * Shows the expenses in the filtered expense list in the order of {@code sort}.
+     * The expense list itself is not changed.
      */
-    void sortExpenses(Comparator<Expense> expenseComparator);
+    void sortExpenses(ExpenseSort sort);
 
     /**
-     * Reveres the {@code filteredExpenses} list.
+     * Reverses the order of the expenses in the filtered expense list. The expense list itself is not changed.
      */
     void reverseFilteredExpensesList();
 }
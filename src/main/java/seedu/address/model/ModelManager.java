@@ -4,8 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -17,10 +17,12 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PermutedList;
 import seedu.address.model.epiggy.Allowance;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
 import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -34,6 +36,7 @@ public class ModelManager implements Model {
     private final VersionedEPiggy versionedEPiggy;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final PermutedList<Expense> sortedExpenses;
     private final FilteredList<Expense> filteredExpenses;
     private final FilteredList<Budget> filteredBudget;
     private final SimpleObjectProperty<Person> selectedPerson = new SimpleObjectProperty<>();
@@ -48,12 +51,13 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + ePiggy + " and user prefs " + userPrefs);
 
-        versionedEPiggy = new VersionedEPiggy(ePiggy);
+        versionedEPiggy = new VersionedEPiggy(ePiggy, userPrefs.getUndoHistoryLimit());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(versionedEPiggy.getPersonList());
         filteredPersons.addListener(this::ensureSelectedPersonIsValid);
 
-        filteredExpenses = new FilteredList<>(versionedEPiggy.getExpenseList());
+        sortedExpenses = new PermutedList<>(versionedEPiggy.getExpenseList());
+        filteredExpenses = new FilteredList<>(sortedExpenses);
         filteredBudget = new FilteredList<>(versionedEPiggy.getBudgetList());
     }
 
@@ -146,6 +150,11 @@ public class ModelManager implements Model {
         setSelectedExpense(allowance);
     }
 
+    @Override
+    public void addOlderExpenses(int index, List<Expense> olderExpenses) {
+        versionedEPiggy.addOlderExpenses(index, olderExpenses);
+    }
+
     //@@author tehwenyi
     @Override
     public void addBudget(int index, Budget budget) {
@@ -264,12 +273,13 @@ public class ModelManager implements Model {
 
     //@@author rahulb99
     /**
-     * Sorts the expenses according to the keyword.
-     * @param comparator expense comparator
+     * Shows the expenses in the order of {@code sort}, which is computed again whenever the expense list changes.
+     * @param sort expense sort
      */
-    public void sortExpenses(Comparator<Expense> comparator) {
-        requireAllNonNull(comparator);
-        versionedEPiggy.sortExpense(comparator);
+    @Override
+    public void sortExpenses(ExpenseSort sort) {
+        requireNonNull(sort);
+        sortedExpenses.setOrdering(sort);
     }
 
     @Override
@@ -281,10 +291,11 @@ public class ModelManager implements Model {
     //@@author rahulb99
 
     /**
-     * Reveres the {@code filteredExpenses} list.
+     * Reverses the {@code filteredExpenses} list.
      */
+    @Override
     public void reverseFilteredExpensesList() {
-        versionedEPiggy.reverseExpenseList();
+        sortedExpenses.reverse();
     }
 
     //=========== Undo/Redo =================================================================================
@@ -6,7 +6,9 @@ import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.ExpenseKeywordIndex;
 import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.ReportRollups;
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.epiggy.item.Item;
 import seedu.address.model.person.Person;
@@ -37,6 +39,16 @@ public interface ReadOnlyEPiggy extends Observable {
      */
     ObservableList<Budget> getBudgetList();
 
+    /**
+     * Returns the index of the names and tags of the expenses in the expense list.
+     */
+    ExpenseKeywordIndex getExpenseKeywordIndex();
+
+    /**
+     * Returns the totals of the expenses, allowances and budgets in each day, month and year.
+     */
+    ReportRollups getReportRollups();
+
     ObservableValue<Cost> getSavings();
 
     SimpleObjectProperty<Goal> getGoal();
@@ -3,35 +3,84 @@ package seedu.address.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.Goal;
+
 /**
  * {@code EPiggy} that keeps track of its own history.
+ * Instead of saving a copy of the whole {@code EPiggy} on every commit, only the changes made since the previous
+ * commit are saved, so that committing takes time proportional to the size of the changes.
+ * Undoing and redoing make their changes in a single batch, so listeners are notified once however many changes
+ * are reverted or reapplied.
  */
 public class VersionedEPiggy extends EPiggy {
 
-    private final List<ReadOnlyEPiggy> addressBookStateList;
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+
+    /** The changes needed to move from each state to the next, with the changes of each state in order. */
+    private final List<List<Edit>> editHistory;
+    private final int historyLimit;
+    private List<Edit> uncommittedEdits;
     private int currentStatePointer;
+    private boolean isRestoringState;
 
     public VersionedEPiggy(ReadOnlyEPiggy initialState) {
+        this(initialState, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedEPiggy} which keeps at most {@code historyLimit} states before the current state.
+     */
+    public VersionedEPiggy(ReadOnlyEPiggy initialState, int historyLimit) {
         super(initialState);
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new EPiggy(initialState));
+        editHistory = new ArrayList<>();
+        this.historyLimit = historyLimit;
+        uncommittedEdits = new ArrayList<>();
         currentStatePointer = 0;
+
+        getExpenseList().addListener(createListEditRecorder(this::replaceExpenses));
+        getBudgetList().addListener(createListEditRecorder(this::replaceBudgets));
+        getGoal().addListener((observable, oldGoal, newGoal) ->
+                recordEdit(new GoalEdit(oldGoal, newGoal)));
     }
 
     /**
-     * Saves a copy of the current {@code EPiggy} state at the end of the state list.
+     * {@inheritDoc}
+     * The inserted expenses are part of the initial state, so they are not recorded as a change.
+     * Must be called before any change is committed.
+     */
+    @Override
+    public void addOlderExpenses(int index, List<Expense> olderExpenses) {
+        restoreState(() -> super.addOlderExpenses(index, olderExpenses));
+    }
+
+    /**
+     * Saves the changes made since the last commit as a new state at the end of the state list.
      * Undone states are removed from the state list.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new EPiggy(this));
+        editHistory.add(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
         currentStatePointer++;
+        removeStatesBeyondLimit();
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        editHistory.subList(currentStatePointer, editHistory.size()).clear();
+    }
+
+    /**
+     * Removes the earliest states until there are at most {@code historyLimit} states before the current state.
+     */
+    private void removeStatesBeyondLimit() {
+        while (editHistory.size() > historyLimit) {
+            editHistory.remove(0);
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -41,8 +90,12 @@ public class VersionedEPiggy extends EPiggy {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        restoreState(() -> {
+            revertUncommittedEdits();
+            currentStatePointer--;
+            revert(editHistory.get(currentStatePointer));
+        });
+        indicateModified();
     }
 
     /**
@@ -52,8 +105,12 @@ public class VersionedEPiggy extends EPiggy {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        restoreState(() -> {
+            revertUncommittedEdits();
+            reapply(editHistory.get(currentStatePointer));
+            currentStatePointer++;
+        });
+        indicateModified();
     }
 
     /**
@@ -67,7 +124,75 @@ public class VersionedEPiggy extends EPiggy {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < editHistory.size();
+    }
+
+    /**
+     * Reverts the changes made since the last commit, restoring the current state.
+     */
+    private void revertUncommittedEdits() {
+        revert(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
+    }
+
+    /**
+     * Reverts {@code edits} from the last to the first.
+     */
+    private void revert(List<Edit> edits) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).revert();
+        }
+    }
+
+    /**
+     * Reapplies {@code edits} from the first to the last.
+     */
+    private void reapply(List<Edit> edits) {
+        for (Edit edit : edits) {
+            edit.reapply();
+        }
+    }
+
+    /**
+     * Makes the changes in {@code restore} as a single batch, without recording them as changes to commit.
+     * The changes are only seen by the recorders when the batch ends, so they must not be recorded until then.
+     */
+    private void restoreState(Runnable restore) {
+        isRestoringState = true;
+        try {
+            batch(restore);
+        } finally {
+            isRestoringState = false;
+        }
+    }
+
+    private void recordEdit(Edit edit) {
+        if (!isRestoringState) {
+            uncommittedEdits.add(edit);
+        }
+    }
+
+    /**
+     * Returns a listener that records every change made to a list, which can be reverted or reapplied with
+     * {@code rangeReplacer}.
+     */
+    private <T> ListChangeListener<T> createListEditRecorder(RangeReplacer<T> rangeReplacer) {
+        return change -> {
+            while (change.next()) {
+                int from = change.getFrom();
+                List<T> added = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                List<T> removed;
+                if (change.wasPermutated()) {
+                    removed = new ArrayList<>(added);
+                    for (int i = from; i < change.getTo(); i++) {
+                        removed.set(i - from, added.get(change.getPermutation(i) - from));
+                    }
+                } else {
+                    removed = new ArrayList<>(change.getRemoved());
+                }
+                recordEdit(new ListEdit<>(rangeReplacer, from, removed, added));
+            }
+        };
     }
 
     @Override
@@ -86,10 +211,76 @@ public class VersionedEPiggy extends EPiggy {
 
         // state check
         return super.equals(otherVersionedEPiggyBook)
-                && addressBookStateList.equals(otherVersionedEPiggyBook.addressBookStateList)
+                && editHistory.size() == otherVersionedEPiggyBook.editHistory.size()
                 && currentStatePointer == otherVersionedEPiggyBook.currentStatePointer;
     }
 
+    /**
+     * A change to {@code EPiggy} that can be reverted and reapplied.
+     */
+    private interface Edit {
+        void revert();
+
+        void reapply();
+    }
+
+    /**
+     * Replaces a range of elements in one of the lists of {@code EPiggy}.
+     */
+    private interface RangeReplacer<T> {
+        void replace(int from, int to, List<T> replacement);
+    }
+
+    /**
+     * A change replacing the elements {@code removed} at index {@code from} of a list with {@code added}.
+     */
+    private static class ListEdit<T> implements Edit {
+        private final RangeReplacer<T> rangeReplacer;
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        ListEdit(RangeReplacer<T> rangeReplacer, int from, List<T> removed, List<T> added) {
+            this.rangeReplacer = rangeReplacer;
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        @Override
+        public void revert() {
+            rangeReplacer.replace(from, from + added.size(), removed);
+        }
+
+        @Override
+        public void reapply() {
+            rangeReplacer.replace(from, from + removed.size(), added);
+        }
+    }
+
+    /**
+     * A change of the saving goal.
+     */
+    private class GoalEdit implements Edit {
+        private final Goal oldGoal;
+        private final Goal newGoal;
+
+        GoalEdit(Goal oldGoal, Goal newGoal) {
+            this.oldGoal = oldGoal;
+            this.newGoal = newGoal;
+        }
+
+        @Override
+        public void revert() {
+            getGoal().set(oldGoal);
+        }
+
+        @Override
+        public void reapply() {
+            getGoal().set(newGoal);
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
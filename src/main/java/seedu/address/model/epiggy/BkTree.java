@@ -0,0 +1,89 @@
+package seedu.address.model.epiggy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A BK-tree of words, which finds the words within some edit distance of a query word without computing the
+ * distance to every word.
+ * Each child of a node is keyed by its distance to the node, so by the triangle inequality only the children whose
+ * key is within {@code maxDistance} of the distance between the query and the node can hold matching words.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code word} to the tree, if it is not already in the tree.
+     */
+    void add(String word) {
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+        Node node = root;
+        while (true) {
+            int distance = ExpenseContainsKeywordsPredicate.levenshtienDist(node.word, word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Returns the words in the tree which are at most {@code maxDistance} edits away from {@code query}.
+     */
+    List<String> search(String query, int maxDistance) {
+        List<String> words = new ArrayList<>();
+        if (root == null) {
+            return words;
+        }
+        Deque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = ExpenseContainsKeywordsPredicate.levenshtienDist(node.word, query);
+            if (distance <= maxDistance) {
+                words.add(node.word);
+            }
+            for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+                if (Math.abs(child.getKey() - distance) <= maxDistance) {
+                    nodesToVisit.push(child.getValue());
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the number of words in the tree.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * A word in the tree, with its children keyed by their distance to the word.
+     */
+    private static class Node {
+        private final String word;
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -92,6 +92,18 @@ public class Budget {
         this.remainingAmount = this.remainingAmount.deduct(amountToDeduct);
     }
 
+    public void addRemainingAmount(Cost amountToAdd) {
+        this.remainingAmount = this.remainingAmount.add(amountToAdd);
+    }
+
+    /**
+     * Returns true if {@code date} falls within the duration of this budget.
+     * The end date is exclusive as it is the day after the last day of the budget.
+     */
+    public boolean containsDate(Date date) {
+        return !date.before(startDate) && endDate.after(date);
+    }
+
     public String getStatus() {
         return status;
     }
@@ -101,8 +113,8 @@ public class Budget {
     }
 
     public Cost getPositiveRemainingAmount() {
-        if (remainingAmount.getAmount() < 0) {
-            return new Cost(-remainingAmount.getAmount());
+        if (remainingAmount.isNegative()) {
+            return remainingAmount.negate();
         }
         return remainingAmount;
     }
@@ -1,26 +1,28 @@
 package seedu.address.model.epiggy;
 
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.logic.parser.ArgumentMultimap;
-import seedu.address.logic.parser.CliSyntax;
-import seedu.address.model.epiggy.item.Item;
+import seedu.address.model.tag.Tag;
 
 //@@author rahulb99
 /**
  * Tests that a {@code expense}'s {@code Name, Cost, Category, Date} matches any of the keywords given.
+ * The keywords are compiled into a {@code FindQuery} once by the parser, so that testing an expense only compares its
+ * fields with the compiled keywords. The predicate holds no other state, so it can be tested on several threads.
  */
 public class ExpenseContainsKeywordsPredicate implements Predicate<Expense> {
 
     public static final int LEVENSHTIEN_THRESHOLD = 3;
-    private final ArgumentMultimap keywords;
 
-    public ExpenseContainsKeywordsPredicate(ArgumentMultimap keywords) {
-        assert keywords != null : "keywords should not be null.";
-        this.keywords = keywords;
+    private final FindQuery query;
+
+    public ExpenseContainsKeywordsPredicate(FindQuery query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     /**
@@ -34,129 +36,154 @@ public class ExpenseContainsKeywordsPredicate implements Predicate<Expense> {
     public boolean test(Expense expense) {
         assert expense != null : "expense should not be null.";
 
-        List<String> nameKeywords = keywords.getAllValues(CliSyntax.PREFIX_NAME);
-        List<String> tagKeywords = keywords.getAllValues(CliSyntax.PREFIX_TAG);
-        String dateKeywords = keywords.getValue(CliSyntax.PREFIX_DATE).orElse("");
-        String costKeywords = keywords.getValue(CliSyntax.PREFIX_COST).orElse("");
-
         //if all keywords are absent, return false
-        if (nameKeywords.isEmpty() && tagKeywords.isEmpty()
-                && dateKeywords.equals("") && costKeywords.equals("")) {
+        if (query.isEmpty()) {
             return false;
         }
 
         //if one or more keywords are present
         boolean result = true;
-        if (!nameKeywords.isEmpty()) {
-            result = containsNameKeywords(nameKeywords, expense);
+        if (!query.getNameKeywords().isEmpty()) {
+            result = containsNameKeywords(expense);
         }
 
-        if (!costKeywords.equals("")) {
-            result = result && isWithinCostRange(costKeywords, expense);
+        if (query.hasCostRange()) {
+            result = result && isWithinCostRange(expense);
         }
 
-        if (!dateKeywords.equals("")) {
-            try {
-                result = result && isWithinDateRange(dateKeywords, expense);
-            } catch (java.text.ParseException e) {
-                result = false;
-                e.printStackTrace();
-            }
+        if (query.hasDateRange()) {
+            result = result && isWithinDateRange(expense);
         }
 
-        if (!tagKeywords.isEmpty()) {
-            result = result && checkTagKeywords(tagKeywords, expense);
+        if (!query.getTagKeywords().isEmpty()) {
+            result = result && checkTagKeywords(expense);
         }
 
         return result;
     }
 
     /**
-     * Return true if the {@code Name} of {@code expense} contains {@code nameKeywords}.
-     * */
-    public boolean containsNameKeywords(List<String> nameKeywords, Expense expense) {
-        assert nameKeywords != null : "nameKeywords should not be null.\n";
-        Item item = expense.getItem();
-        boolean result = true;
-        for (String n: nameKeywords) {
-            result = result && item.getName().name.toLowerCase().contains(n.trim().toLowerCase());
-            result = result || (levenshtienDist(item.getName().name, n) < LEVENSHTIEN_THRESHOLD);
+     * Returns true if there are name or tag keywords, which can be looked up in an {@code ExpenseKeywordIndex}.
+     */
+    public boolean hasIndexedKeywords() {
+        return !query.getNameKeywords().isEmpty() || !query.getTagKeywords().isEmpty();
+    }
+
+    /**
+     * Returns the expenses in {@code index} which may match the name and tag keywords.
+     * Every expense in {@code index} which matches this predicate is in the returned set.
+     * There must be name or tag keywords.
+     */
+    public Set<Expense> findCandidates(ExpenseKeywordIndex index) {
+        assert hasIndexedKeywords() : "there should be name or tag keywords.";
+
+        List<String> nameKeywords = query.getNameKeywords();
+        Set<Expense> candidates = null;
+        if (!nameKeywords.isEmpty()) {
+            // containsNameKeywords can only be true if the name matches the last name keyword
+            String lastNameKeyword = nameKeywords.get(nameKeywords.size() - 1);
+            candidates = index.getExpensesWithName(lastNameKeyword);
         }
-        return result;
+        for (String tagKeyword : query.getTagKeywords()) {
+            Set<Expense> tagged = index.getExpensesWithTag(tagKeyword);
+            candidates = candidates == null ? tagged : intersect(candidates, tagged);
+        }
+        return candidates;
     }
 
     /**
-     * Return true if any of the {@code Tag} of {@code expense} contains any element of {@code tagKeywords}.
-     * */
-    public boolean checkTagKeywords(List<String> tagKeywords, Expense expense) {
-        assert tagKeywords != null : "tagKeywords should not be null.\n";
-        boolean result = true;
-        Item item = expense.getItem();
-        for (String tag : tagKeywords) {
-            result = result && item.getTags().stream()
-                    .anyMatch(keyword -> (keyword.tagName.trim().toLowerCase().contains(tag.trim().toLowerCase()))
-                            || (levenshtienDist(keyword.tagName, tag) < LEVENSHTIEN_THRESHOLD));
+     * Returns the intersection of {@code first} and {@code second}, reusing the smaller of them.
+     */
+    private static Set<Expense> intersect(Set<Expense> first, Set<Expense> second) {
+        Set<Expense> smaller = first.size() <= second.size() ? first : second;
+        smaller.retainAll(smaller == first ? second : first);
+        return smaller;
+    }
+
+    /**
+     * Returns true if {@code value} contains {@code lowerCaseSubstring}, ignoring case.
+     */
+    private static boolean containsIgnoreCase(String value, String lowerCaseSubstring) {
+        for (int i = 0; i + lowerCaseSubstring.length() <= value.length(); i++) {
+            if (value.regionMatches(true, i, lowerCaseSubstring, 0, lowerCaseSubstring.length())) {
+                return true;
+            }
         }
-        return result;
+        return false;
     }
 
     /**
-     * Return true if the {@code Cost} of {@code expense} is within the range denoted by {@code costKeywords}.
+     * Returns true if {@code value} is less than {@code LEVENSHTIEN_THRESHOLD} edits away from
+     * {@code lowerCaseKeyword}, ignoring case.
+     */
+    private static boolean isCloseTo(String value, String lowerCaseKeyword) {
+        if (Math.abs(value.length() - lowerCaseKeyword.length()) >= LEVENSHTIEN_THRESHOLD) {
+            return false; // at least one edit is needed for each character of difference in length
+        }
+        return levenshtienDist(value, lowerCaseKeyword, new int[lowerCaseKeyword.length() + 1])
+                < LEVENSHTIEN_THRESHOLD;
+    }
+
+    /**
+     * Return true if the {@code Name} of {@code expense} contains the name keywords.
+     * The distance to a keyword is only computed if the name does not already match it.
      * */
-    public boolean isWithinCostRange(String costKeywords, Expense expense) {
-        assert costKeywords != null : "costKeywords should not be null.\n";
+    private boolean containsNameKeywords(Expense expense) {
+        String name = expense.getItem().getName().name;
+        List<String> nameSubstrings = query.getNameSubstrings();
         boolean result = true;
-        String[] splitCost = costKeywords.split(":");
-        Item item = expense.getItem();
-        if (splitCost.length == 1) { //if the user enters an exact cost
-            double chosenCost = Double.parseDouble(splitCost[0]);
-            result = item.getCost().getAmount() == chosenCost;
-        } else { //if the user enters a range of dates
-            double lowerBound = Double.parseDouble(splitCost[0]);
-            double higherBound = Double.parseDouble(splitCost[1]);
-            result = lowerBound <= item.getCost().getAmount()
-                    && item.getCost().getAmount() <= higherBound;
+        for (int i = 0; i < nameSubstrings.size(); i++) {
+            if (result && containsIgnoreCase(name, nameSubstrings.get(i))) {
+                continue;
+            }
+            result = isCloseTo(name, query.getLowerCaseNameKeywords().get(i));
         }
         return result;
     }
 
     /**
-     * Return true if the {@code Date} of {@code expense} is within the range denoted by {@code dateKeywords}.
+     * Return true if the {@code Tag}s of {@code expense} match every one of the tag keywords.
      * */
-    public boolean isWithinDateRange(String dateKeywords, Expense expense) throws java.text.ParseException {
-        assert dateKeywords != null : "dateKeywords should not be null.\n";
-        boolean result = true;
-        String[] splitDate = dateKeywords.split(":");
-        if (splitDate.length == 1) { //if the user only enter an exact date
-            Calendar cal = Calendar.getInstance();
-            SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
-            cal.setTime(sdf.parse(dateKeywords));
-            Calendar expenseCal = Calendar.getInstance();
-            // SimpleDateFormat sdf1 = new SimpleDateFormat("EEE, MMM d, yyyy");
-            // expenseCal.setTime(sdf1.parse(expense.getDate().toString()));
-            expenseCal.setTime(expense.getDate());
-            result = cal.get(Calendar.YEAR) == expenseCal.get(Calendar.YEAR)
-                    && cal.get(Calendar.MONTH) == expenseCal.get(Calendar.MONTH)
-                    && cal.get(Calendar.DATE) == expenseCal.get(Calendar.DATE);
-        } else { //if the user enter a range of dates
-            Calendar start = Calendar.getInstance();
-            Calendar end = Calendar.getInstance();
-            SimpleDateFormat sdf = new SimpleDateFormat("dd/MM/yyyy");
-            start.setTime(sdf.parse(splitDate[0]));
-            end.setTime(sdf.parse(splitDate[1]));
-            Calendar expenseCal = Calendar.getInstance();
-            expenseCal.setTime(expense.getDate());
-            boolean isWithinRange = start.before(expenseCal)
-                    && end.after(expenseCal);
-            boolean equalOrNot = (start.get(Calendar.YEAR) == expenseCal.get(Calendar.YEAR)
-                    && start.get(Calendar.MONTH) == expenseCal.get(Calendar.MONTH)
-                    && start.get(Calendar.DATE) == expenseCal.get(Calendar.DATE))
-                    || (end.get(Calendar.YEAR) == expenseCal.get(Calendar.YEAR)
-                    && end.get(Calendar.MONTH) == expenseCal.get(Calendar.MONTH)
-                    && end.get(Calendar.DATE) == expenseCal.get(Calendar.DATE));
-            result = (equalOrNot || isWithinRange);
+    private boolean checkTagKeywords(Expense expense) {
+        Set<Tag> tags = expense.getItem().getTags();
+        for (int i = 0; i < query.getTagKeywords().size(); i++) {
+            if (!hasMatchingTag(tags, i)) {
+                return false;
+            }
         }
-        return result;
+        return true;
+    }
+
+    /**
+     * Returns true if any of {@code tags} contains, or is close to, the tag keyword at {@code keywordIndex}.
+     */
+    private boolean hasMatchingTag(Set<Tag> tags, int keywordIndex) {
+        for (Tag tag : tags) {
+            if (containsIgnoreCase(tag.tagName.trim(), query.getTagSubstrings().get(keywordIndex))
+                    || isCloseTo(tag.tagName, query.getLowerCaseTagKeywords().get(keywordIndex))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return true if the {@code Cost} of {@code expense} is within the cost range of the keywords.
+     * */
+    private boolean isWithinCostRange(Expense expense) {
+        long cost = expense.getItem().getCost().getAmountInCents();
+        return query.getMinCostInCents() <= cost && cost <= query.getMaxCostInCents();
+    }
+
+    /**
+     * Return true if the {@code Date} of {@code expense} is within the date range of the keywords.
+     * The first and last days of the range are matched even if the range is reversed.
+     * */
+    private boolean isWithinDateRange(Expense expense) {
+        long day = query.toEpochDay(expense.getDate());
+        long startEpochDay = query.getStartEpochDay();
+        long endEpochDay = query.getEndEpochDay();
+        return (startEpochDay <= day && day <= endEpochDay) || day == startEpochDay || day == endEpochDay;
     }
 
     /**
@@ -166,31 +193,45 @@ public class ExpenseContainsKeywordsPredicate implements Predicate<Expense> {
      * @return levenshtien distance
      */
     public static int levenshtienDist(String a, String b) {
-        a = a.toLowerCase();
-        b = b.toLowerCase();
+        String lowerCaseB = b.toLowerCase();
+        return levenshtienDist(a, lowerCaseB, new int[lowerCaseB.length() + 1]);
+    }
+
+    /**
+     * Calculates the Levenshtien distance between {@code a}, ignoring its case, and {@code lowerCaseB}, using
+     * {@code costs} as the row of distances.
+     * {@code costs} must be longer than {@code lowerCaseB}.
+     */
+    private static int levenshtienDist(String a, String lowerCaseB, int[] costs) {
+        int lengthB = lowerCaseB.length();
         // i == 0
-        int [] costs = new int [b.length() + 1];
-        for (int j = 0; j < costs.length; j++) {
+        for (int j = 0; j <= lengthB; j++) {
             costs[j] = j;
         }
         for (int i = 1; i <= a.length(); i++) {
+            char charA = Character.toLowerCase(a.charAt(i - 1));
             // j == 0; nw = lev(i - 1, j)
             costs[0] = i;
             int nw = i - 1;
-            for (int j = 1; j <= b.length(); j++) {
+            for (int j = 1; j <= lengthB; j++) {
                 int cj = Math.min(1 + Math.min(costs[j], costs[j - 1]),
-                        a.charAt(i - 1) == b.charAt(j - 1) ? nw : nw + 1);
+                        charA == lowerCaseB.charAt(j - 1) ? nw : nw + 1);
                 nw = costs[j];
                 costs[j] = cj;
             }
         }
-        return costs[b.length()];
+        return costs[lengthB];
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ExpenseContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((ExpenseContainsKeywordsPredicate) other).keywords)); // state check
+                && query.equals(((ExpenseContainsKeywordsPredicate) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
     }
 }
@@ -0,0 +1,206 @@
+package seedu.address.model.epiggy;
+
+import static seedu.address.model.epiggy.ExpenseContainsKeywordsPredicate.LEVENSHTIEN_THRESHOLD;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the lower case names and tag names of the expenses in an {@code ExpenseList} to the
+ * expenses having them, so that finding expenses by name or tag only has to look at the distinct names and tags
+ * instead of every expense.
+ * The distinct names and tag names are also kept in BK-trees, so that the names and tag names close to a keyword
+ * can be found without computing the edit distance to each of them, and indexed by the substrings of up to
+ * {@code GRAM_LENGTH} characters in them, so that the names and tag names containing a keyword can be found without
+ * searching each of them.
+ */
+public class ExpenseKeywordIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Vocabulary names = new Vocabulary();
+    private final Vocabulary tagNames = new Vocabulary();
+    private int version;
+
+    /**
+     * Adds {@code expense} to the postings of its name and tags.
+     */
+    void add(Expense expense) {
+        names.add(expense.getItem().getName().name, expense);
+        for (Tag tag : expense.getItem().getTags()) {
+            tagNames.add(tag.tagName, expense);
+        }
+        version++;
+    }
+
+    /**
+     * Removes one occurrence of {@code expense} from the postings of its name and tags.
+     */
+    void remove(Expense expense) {
+        names.remove(expense.getItem().getName().name, expense);
+        for (Tag tag : expense.getItem().getTags()) {
+            tagNames.remove(tag.tagName, expense);
+        }
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the indexed expenses change.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the expenses whose lower case name contains the trimmed lower case {@code keyword}, or is less than
+     * {@code LEVENSHTIEN_THRESHOLD} edits away from {@code keyword}.
+     */
+    public Set<Expense> getExpensesWithName(String keyword) {
+        return names.getExpenses(keyword);
+    }
+
+    /**
+     * Returns the expenses with a tag whose lower case name contains the trimmed lower case {@code keyword}, or is
+     * less than {@code LEVENSHTIEN_THRESHOLD} edits away from {@code keyword}.
+     */
+    public Set<Expense> getExpensesWithTag(String keyword) {
+        return tagNames.getExpenses(keyword);
+    }
+
+    /**
+     * A set of distinct lower case words, each with the expenses having it.
+     */
+    private static class Vocabulary {
+        /** The expenses having each word, with the number of times each expense is in the list. */
+        private final Map<String, Map<Expense, Integer>> postings = new HashMap<>();
+        /** The words in {@code postings} containing each substring of up to {@code GRAM_LENGTH} characters. */
+        private final Map<String, Set<String>> gramWords = new HashMap<>();
+        /** Holds every word in {@code postings}, and possibly words which are no longer in it. */
+        private BkTree tree = new BkTree();
+
+        /**
+         * Adds {@code expense} to the posting of {@code word}.
+         */
+        void add(String word, Expense expense) {
+            String key = word.toLowerCase();
+            Map<Expense, Integer> posting = postings.get(key);
+            if (posting == null) {
+                posting = new IdentityHashMap<>();
+                postings.put(key, posting);
+                addGrams(key);
+                tree.add(key);
+            }
+            posting.merge(expense, 1, Integer::sum);
+        }
+
+        /**
+         * Removes one occurrence of {@code expense} from the posting of {@code word}, and the word if no expense
+         * has it any more.
+         */
+        void remove(String word, Expense expense) {
+            String key = word.toLowerCase();
+            Map<Expense, Integer> posting = postings.get(key);
+            posting.computeIfPresent(expense, (unused, count) -> count == 1 ? null : count - 1);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+                removeGrams(key);
+                rebuildTreeIfMostlyRemoved();
+            }
+        }
+
+        /**
+         * Adds {@code key} to the words of each of its substrings of up to {@code GRAM_LENGTH} characters.
+         */
+        private void addGrams(String key) {
+            for (int start = 0; start < key.length(); start++) {
+                for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, key.length()); end++) {
+                    gramWords.computeIfAbsent(key.substring(start, end), unused -> new HashSet<>()).add(key);
+                }
+            }
+        }
+
+        /**
+         * Removes {@code key} from the words of each of its substrings of up to {@code GRAM_LENGTH} characters.
+         */
+        private void removeGrams(String key) {
+            for (int start = 0; start < key.length(); start++) {
+                for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, key.length()); end++) {
+                    String gram = key.substring(start, end);
+                    Set<String> words = gramWords.get(gram);
+                    if (words != null && words.remove(key) && words.isEmpty()) {
+                        gramWords.remove(gram);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the words containing {@code substring}.
+         * A substring of up to {@code GRAM_LENGTH} characters is looked up directly. A longer substring is only
+         * searched for in the words containing the rarest of its substrings of {@code GRAM_LENGTH} characters.
+         */
+        private Set<String> getWordsContaining(String substring) {
+            if (substring.isEmpty()) {
+                return postings.keySet();
+            }
+            if (substring.length() <= GRAM_LENGTH) {
+                return gramWords.getOrDefault(substring, Collections.emptySet());
+            }
+            Set<String> rarest = null;
+            for (int start = 0; start + GRAM_LENGTH <= substring.length(); start++) {
+                Set<String> words = gramWords.get(substring.substring(start, start + GRAM_LENGTH));
+                if (words == null) {
+                    return Collections.emptySet();
+                }
+                if (rarest == null || words.size() < rarest.size()) {
+                    rarest = words;
+                }
+            }
+            Set<String> containing = new HashSet<>();
+            for (String word : rarest) {
+                if (word.contains(substring)) {
+                    containing.add(word);
+                }
+            }
+            return containing;
+        }
+
+        /**
+         * Rebuilds the tree from the words in {@code postings} if most of its words have been removed, as words
+         * cannot be removed from a BK-tree.
+         */
+        private void rebuildTreeIfMostlyRemoved() {
+            if (tree.size() <= 2 * postings.size()) {
+                return;
+            }
+            tree = new BkTree();
+            for (String key : postings.keySet()) {
+                tree.add(key);
+            }
+        }
+
+        /**
+         * Returns the expenses having a word which contains the trimmed lower case {@code keyword}, or is less than
+         * {@code LEVENSHTIEN_THRESHOLD} edits away from {@code keyword}.
+         */
+        Set<Expense> getExpenses(String keyword) {
+            Set<Expense> expenses = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (String key : getWordsContaining(keyword.trim().toLowerCase())) {
+                expenses.addAll(postings.get(key).keySet());
+            }
+            for (String key : tree.search(keyword, LEVENSHTIEN_THRESHOLD - 1)) {
+                Map<Expense, Integer> posting = postings.get(key);
+                if (posting != null) {
+                    expenses.addAll(posting.keySet());
+                }
+            }
+            return expenses;
+        }
+    }
+}
@@ -6,11 +6,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.SortedList;
+import seedu.address.commons.util.BatchedObservableList;
+import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 //@@author rahulb99
@@ -28,9 +31,54 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class ExpenseList implements Iterable<Expense> {
 
-    private final ObservableList<Expense> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Expense> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final BatchedObservableList<Expense> internalList = new BatchedObservableList<>();
+    private final ObservableList<Expense> internalUnmodifiableList;
+
+    /** Running totals in cents, kept up to date on every change to {@code internalList}. */
+    private long totalExpensesInCents;
+    private long totalAllowancesInCents;
+    private final SimpleObjectProperty<Cost> savings = new SimpleObjectProperty<>(Cost.fromCents(0));
+    private final ExpenseKeywordIndex keywordIndex = new ExpenseKeywordIndex();
+
+    public ExpenseList() {
+        // Listeners are notified in the order they are added, so this is added before the unmodifiable list adds its
+        // own listener, for listeners of the unmodifiable list to see the updated totals and index.
+        internalList.addListener(this::onListChanged);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Updates the running totals and the keyword index with the expenses added to and removed from the list in
+     * {@code change}.
+     */
+    private void onListChanged(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Expense removed : change.getRemoved()) {
+                addToTotals(removed, -1);
+                keywordIndex.remove(removed);
+            }
+            for (Expense added : change.getAddedSubList()) {
+                addToTotals(added, 1);
+                keywordIndex.add(added);
+            }
+        }
+        savings.set(Cost.fromCents(totalAllowancesInCents - totalExpensesInCents));
+    }
+
+    /**
+     * Adds {@code sign} times the cost of {@code expense} to the matching running total.
+     */
+    private void addToTotals(Expense expense, int sign) {
+        long cents = sign * expense.getItem().getCost().getAmountInCents();
+        if (expense instanceof Allowance) {
+            totalAllowancesInCents += cents;
+        } else {
+            totalExpensesInCents += cents;
+        }
+    }
 
     /**
      * Adds a expense to the list.
@@ -87,24 +135,60 @@ public class ExpenseList implements Iterable<Expense> {
         internalList.setAll(expenses);
     }
 
+    /**
+     * Replaces the expenses from index {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * Listeners are notified of the replacement as a single change.
+     */
+    public void replaceRange(int from, int to, List<Expense> replacement) {
+        requireAllNonNull(replacement);
+        internalList.beginBatch();
+        try {
+            internalList.remove(from, to);
+            internalList.addAll(from, replacement);
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Starts a batch of changes, which listeners of the list are notified of as a single change when the batch ends.
+     * The totals and keyword index are only updated when the batch ends.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the last call to {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
+    }
+
     public double getTotalExpenses() {
-        double sum = internalUnmodifiableList.stream()
-                .filter(expense -> !(expense instanceof Allowance))
-                .mapToDouble(expense -> expense.getItem().getCost().getAmount())
-                .sum();
-        return sum;
+        return totalExpensesInCents / 100.0;
     }
 
     public double getTotalAllowances() {
-        double sum = internalUnmodifiableList.stream()
-                .filter(allowance -> allowance instanceof Allowance)
-                .mapToDouble(allowance -> allowance.getItem().getCost().getAmount())
-                .sum();
-        return sum;
+        return totalAllowancesInCents / 100.0;
     }
 
     public double getTotalSavings() {
-        return getTotalAllowances() - getTotalExpenses();
+        return (totalAllowancesInCents - totalExpensesInCents) / 100.0;
+    }
+
+    /**
+     * Returns the total savings, which is updated whenever the list changes.
+     */
+    public SimpleObjectProperty<Cost> getSavings() {
+        return savings;
+    }
+
+    /**
+     * Returns the index of the names and tags of the expenses in this list.
+     */
+    public ExpenseKeywordIndex getKeywordIndex() {
+        return keywordIndex;
     }
 
     /**
@@ -153,17 +237,7 @@ public class ExpenseList implements Iterable<Expense> {
         });
     }
 
-    public void sort(Comparator<Expense> comparator) {
-        FXCollections.sort(internalList, comparator);
-    }
-
-    public void reverse() {
-        FXCollections.reverse(internalList);
-    }
-
     public double getTotalSpendings() {
-        List<Double> costList = internalList.stream().map(e -> e.getItem().getCost().getAmount())
-                .collect(Collectors.toList());
-        return costList.stream().mapToDouble(f -> f.doubleValue()).sum();
+        return (totalAllowancesInCents + totalExpensesInCents) / 100.0;
     }
 }
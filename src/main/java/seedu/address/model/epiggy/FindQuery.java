@@ -0,0 +1,198 @@
+package seedu.address.model.epiggy;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.stream.Collectors;
+
+/**
+ * The keywords of a find command, compiled once into the form which expenses are compared with: lower-cased name and
+ * tag keywords, a range of costs in cents, and a range of days since the epoch in the system time zone.
+ * A query cannot be changed once it is built, so it can be tested on any number of threads at once.
+ */
+public class FindQuery {
+
+    private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000;
+
+    private final List<String> nameKeywords;
+    private final List<String> nameSubstrings;
+    private final List<String> lowerCaseNameKeywords;
+    private final List<String> tagKeywords;
+    private final List<String> tagSubstrings;
+    private final List<String> lowerCaseTagKeywords;
+
+    private final boolean hasCostRange;
+    private final long minCostInCents;
+    private final long maxCostInCents;
+    private final boolean hasDateRange;
+    private final long startEpochDay;
+    private final long endEpochDay;
+    private final TimeZone timeZone;
+
+    /**
+     * Creates a query for expenses matching all of {@code nameKeywords} and {@code tagKeywords}, with any cost and
+     * date.
+     */
+    public FindQuery(List<String> nameKeywords, List<String> tagKeywords) {
+        this(nameKeywords, tagKeywords, false, 0, 0, false, 0, 0, TimeZone.getDefault());
+    }
+
+    private FindQuery(List<String> nameKeywords, List<String> tagKeywords, boolean hasCostRange,
+                      long minCostInCents, long maxCostInCents, boolean hasDateRange, long startEpochDay,
+                      long endEpochDay, TimeZone timeZone) {
+        requireAllNonNull(nameKeywords, tagKeywords);
+        this.nameKeywords = Collections.unmodifiableList(new ArrayList<>(nameKeywords));
+        nameSubstrings = toSubstrings(nameKeywords);
+        lowerCaseNameKeywords = toLowerCase(nameKeywords);
+        this.tagKeywords = Collections.unmodifiableList(new ArrayList<>(tagKeywords));
+        tagSubstrings = toSubstrings(tagKeywords);
+        lowerCaseTagKeywords = toLowerCase(tagKeywords);
+        this.hasCostRange = hasCostRange;
+        this.minCostInCents = minCostInCents;
+        this.maxCostInCents = maxCostInCents;
+        this.hasDateRange = hasDateRange;
+        this.startEpochDay = startEpochDay;
+        this.endEpochDay = endEpochDay;
+        this.timeZone = timeZone;
+    }
+
+    private static List<String> toSubstrings(List<String> keywords) {
+        return Collections.unmodifiableList(keywords.stream().map(keyword -> keyword.trim().toLowerCase())
+                .collect(Collectors.toList()));
+    }
+
+    private static List<String> toLowerCase(List<String> keywords) {
+        return Collections.unmodifiableList(keywords.stream().map(String::toLowerCase).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns a copy of this query which only matches expenses costing from {@code minCostInCents} to
+     * {@code maxCostInCents}, inclusive.
+     */
+    public FindQuery withCostRange(long minCostInCents, long maxCostInCents) {
+        return new FindQuery(nameKeywords, tagKeywords, true, minCostInCents, maxCostInCents, hasDateRange,
+                startEpochDay, endEpochDay, timeZone);
+    }
+
+    /**
+     * Returns a copy of this query which only matches expenses dated from {@code startDate} to {@code endDate},
+     * inclusive.
+     */
+    public FindQuery withDateRange(Date startDate, Date endDate) {
+        requireAllNonNull(startDate, endDate);
+        return new FindQuery(nameKeywords, tagKeywords, hasCostRange, minCostInCents, maxCostInCents, true,
+                toEpochDay(startDate), toEpochDay(endDate), timeZone);
+    }
+
+    /**
+     * Returns the number of days since the epoch of {@code date} in the time zone of this query.
+     */
+    public long toEpochDay(Date date) {
+        long millis = date.getTime();
+        return Math.floorDiv(millis + timeZone.getOffset(millis), MILLIS_PER_DAY);
+    }
+
+    /**
+     * Returns the name keywords as they were given.
+     */
+    public List<String> getNameKeywords() {
+        return nameKeywords;
+    }
+
+    /**
+     * Returns the name keywords trimmed and in lower case, to be looked for in names.
+     */
+    public List<String> getNameSubstrings() {
+        return nameSubstrings;
+    }
+
+    public List<String> getLowerCaseNameKeywords() {
+        return lowerCaseNameKeywords;
+    }
+
+    /**
+     * Returns the tag keywords as they were given.
+     */
+    public List<String> getTagKeywords() {
+        return tagKeywords;
+    }
+
+    /**
+     * Returns the tag keywords trimmed and in lower case, to be looked for in tag names.
+     */
+    public List<String> getTagSubstrings() {
+        return tagSubstrings;
+    }
+
+    public List<String> getLowerCaseTagKeywords() {
+        return lowerCaseTagKeywords;
+    }
+
+    public boolean hasCostRange() {
+        return hasCostRange;
+    }
+
+    public long getMinCostInCents() {
+        return minCostInCents;
+    }
+
+    public long getMaxCostInCents() {
+        return maxCostInCents;
+    }
+
+    public boolean hasDateRange() {
+        return hasDateRange;
+    }
+
+    public long getStartEpochDay() {
+        return startEpochDay;
+    }
+
+    public long getEndEpochDay() {
+        return endEpochDay;
+    }
+
+    /**
+     * Returns true if the query has no keywords or ranges at all.
+     */
+    public boolean isEmpty() {
+        return nameKeywords.isEmpty() && tagKeywords.isEmpty() && !hasCostRange && !hasDateRange;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FindQuery)) {
+            return false;
+        }
+        FindQuery otherQuery = (FindQuery) other;
+        return nameKeywords.equals(otherQuery.nameKeywords)
+                && tagKeywords.equals(otherQuery.tagKeywords)
+                && hasCostRange == otherQuery.hasCostRange
+                && minCostInCents == otherQuery.minCostInCents
+                && maxCostInCents == otherQuery.maxCostInCents
+                && hasDateRange == otherQuery.hasDateRange
+                && startEpochDay == otherQuery.startEpochDay
+                && endEpochDay == otherQuery.endEpochDay;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameKeywords, tagKeywords, hasCostRange, minCostInCents, maxCostInCents, hasDateRange,
+                startEpochDay, endEpochDay);
+    }
+
+    @Override
+    public String toString() {
+        return "FindQuery{names=" + nameKeywords + ", tags=" + tagKeywords
+                + (hasCostRange ? ", cents=" + minCostInCents + ":" + maxCostInCents : "")
+                + (hasDateRange ? ", days=" + startEpochDay + ":" + endEpochDay : "") + "}";
+    }
+}
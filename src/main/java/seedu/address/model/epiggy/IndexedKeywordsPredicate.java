@@ -0,0 +1,50 @@
+package seedu.address.model.epiggy;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Tests that an {@code expense} matches an {@code ExpenseContainsKeywordsPredicate}, by first looking up the
+ * expenses which may match its name and tag keywords in an {@code ExpenseKeywordIndex}.
+ * Only these candidates are tested against the whole predicate. The candidates are looked up again whenever the
+ * indexed expenses change.
+ */
+public class IndexedKeywordsPredicate implements Predicate<Expense> {
+
+    private final ExpenseContainsKeywordsPredicate predicate;
+    private final ExpenseKeywordIndex index;
+    private Set<Expense> candidates;
+    private int candidatesVersion;
+
+    public IndexedKeywordsPredicate(ExpenseContainsKeywordsPredicate predicate, ExpenseKeywordIndex index) {
+        requireAllNonNull(predicate, index);
+        assert predicate.hasIndexedKeywords() : "predicate should have name or tag keywords.";
+        this.predicate = predicate;
+        this.index = index;
+    }
+
+    @Override
+    public boolean test(Expense expense) {
+        if (candidates == null || candidatesVersion != index.getVersion()) {
+            candidates = predicate.findCandidates(index);
+            candidatesVersion = index.getVersion();
+        }
+        return candidates.contains(expense) && predicate.test(expense);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IndexedKeywordsPredicate // instanceof handles nulls
+                && predicate.equals(((IndexedKeywordsPredicate) other).predicate)
+                && index == ((IndexedKeywordsPredicate) other).index); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(predicate, System.identityHashCode(index));
+    }
+}
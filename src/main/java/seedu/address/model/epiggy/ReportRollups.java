@@ -0,0 +1,244 @@
+package seedu.address.model.epiggy;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * The totals of the expenses, allowances and budgets in each day, month and year, so that a report only has to read
+ * the totals of the periods it shows instead of every expense.
+ * Expenses and allowances are rolled up by their dates in the system time zone, and budgets by the month and year
+ * they start in. A period without any expense, allowance or budget has no totals.
+ * Reads and updates are synchronized on the rollups, so they can be read on a thread other than the one changing the
+ * lists. A reader can hold the lock to read several periods, or iterate over the years, consistently.
+ */
+public class ReportRollups {
+
+    public static final int HOURS_PER_DAY = 24;
+
+    private static final Totals NO_TOTALS = new Totals();
+    private static final DayTotals NO_DAY_TOTALS = new DayTotals();
+
+    private final Map<Long, DayTotals> days = new HashMap<>();
+    private final Map<YearMonth, Totals> months = new HashMap<>();
+    private final TreeMap<Integer, Totals> years = new TreeMap<>();
+
+    /**
+     * Creates the rollups of {@code expenses} and {@code budgets}, which are not updated when they change.
+     */
+    public ReportRollups(Collection<? extends Expense> expenses, Collection<? extends Budget> budgets) {
+        requireAllNonNull(expenses, budgets);
+        expenses.forEach(expense -> addExpense(expense, 1));
+        budgets.forEach(budget -> addBudget(budget, 1));
+    }
+
+    /**
+     * Returns the rollups of {@code expenses} and {@code budgets}, which are updated whenever either list changes.
+     */
+    public static ReportRollups observe(ObservableList<? extends Expense> expenses,
+                                        ObservableList<? extends Budget> budgets) {
+        ReportRollups rollups = new ReportRollups(expenses, budgets);
+        expenses.addListener(rollups::onExpensesChanged);
+        budgets.addListener(rollups::onBudgetsChanged);
+        return rollups;
+    }
+
+    /**
+     * Updates the totals with the expenses removed and added in {@code change}.
+     */
+    private synchronized void onExpensesChanged(ListChangeListener.Change<? extends Expense> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(expense -> addExpense(expense, -1));
+            change.getAddedSubList().forEach(expense -> addExpense(expense, 1));
+        }
+    }
+
+    /**
+     * Updates the totals with the budgets removed and added in {@code change}.
+     */
+    private synchronized void onBudgetsChanged(ListChangeListener.Change<? extends Budget> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(budget -> addBudget(budget, -1));
+            change.getAddedSubList().forEach(budget -> addBudget(budget, 1));
+        }
+    }
+
+    /**
+     * Adds {@code sign} times {@code expense} to the totals of its day, month and year.
+     */
+    private void addExpense(Expense expense, int sign) {
+        ZonedDateTime dateTime = expense.getDate().toInstant().atZone(ZoneId.systemDefault());
+        LocalDate date = dateTime.toLocalDate();
+        long amountInCents = expense.getItem().getCost().getAmountInCents();
+        boolean isAllowance = expense instanceof Allowance;
+
+        update(days, date.toEpochDay(), DayTotals::new, day ->
+                day.addExpense(amountInCents, isAllowance, dateTime.getHour(), sign));
+        update(months, YearMonth.from(date), Totals::new, month -> month.addExpense(amountInCents, isAllowance, sign));
+        update(years, date.getYear(), Totals::new, year -> year.addExpense(amountInCents, isAllowance, sign));
+    }
+
+    /**
+     * Adds {@code sign} times {@code budget} to the totals of the month and year it starts in.
+     */
+    private void addBudget(Budget budget, int sign) {
+        LocalDate startDate = budget.getStartDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        long amountInCents = budget.getBudgetedAmount().getAmountInCents();
+
+        update(months, YearMonth.from(startDate), Totals::new, month -> month.addBudget(amountInCents, sign));
+        update(years, startDate.getYear(), Totals::new, year -> year.addBudget(amountInCents, sign));
+    }
+
+    /**
+     * Applies {@code update} to the totals of {@code key} in {@code periods}, which are created if they do not exist
+     * and removed if they become empty.
+     */
+    private static <K, T extends Totals> void update(Map<K, T> periods, K key, Supplier<T> creator,
+                                                     Consumer<T> update) {
+        T totals = periods.computeIfAbsent(key, unused -> creator.get());
+        update.accept(totals);
+        if (totals.isEmpty()) {
+            periods.remove(key);
+        }
+    }
+
+    public synchronized DayTotals getDay(LocalDate date) {
+        return days.getOrDefault(date.toEpochDay(), NO_DAY_TOTALS);
+    }
+
+    public synchronized Totals getMonth(YearMonth month) {
+        return months.getOrDefault(month, NO_TOTALS);
+    }
+
+    public synchronized Totals getYear(int year) {
+        return years.getOrDefault(year, NO_TOTALS);
+    }
+
+    /**
+     * Returns the totals of every year with an expense, allowance or budget, by year in ascending order.
+     * The lock on the rollups must be held while iterating over the map if the lists can change.
+     */
+    public SortedMap<Integer, Totals> getYears() {
+        return Collections.unmodifiableSortedMap(years);
+    }
+
+    /**
+     * The totals of the expenses, allowances and budgets in a period, in cents.
+     */
+    public static class Totals {
+        private long expensesInCents;
+        private long allowancesInCents;
+        private long budgetsInCents;
+        private int expenseCount;
+        private int allowanceCount;
+        private int budgetCount;
+
+        /**
+         * Adds {@code sign} times an expense, or an allowance if {@code isAllowance}, of {@code amountInCents}.
+         */
+        void addExpense(long amountInCents, boolean isAllowance, int sign) {
+            if (isAllowance) {
+                allowancesInCents += sign * amountInCents;
+                allowanceCount += sign;
+            } else {
+                expensesInCents += sign * amountInCents;
+                expenseCount += sign;
+            }
+        }
+
+        void addBudget(long amountInCents, int sign) {
+            budgetsInCents += sign * amountInCents;
+            budgetCount += sign;
+        }
+
+        boolean isEmpty() {
+            return expenseCount == 0 && allowanceCount == 0 && budgetCount == 0;
+        }
+
+        public long getExpensesInCents() {
+            return expensesInCents;
+        }
+
+        public long getAllowancesInCents() {
+            return allowancesInCents;
+        }
+
+        public long getBudgetsInCents() {
+            return budgetsInCents;
+        }
+
+        public boolean hasExpenses() {
+            return expenseCount > 0;
+        }
+
+        public boolean hasAllowances() {
+            return allowanceCount > 0;
+        }
+
+        public boolean hasBudgets() {
+            return budgetCount > 0;
+        }
+    }
+
+    /**
+     * The totals of a day, which also has the total expenses in each hour and the smallest and largest expense.
+     */
+    public static class DayTotals extends Totals {
+        private final long[] expensesInCentsByHour = new long[HOURS_PER_DAY];
+        /** The number of expenses of each amount in cents. */
+        private final TreeMap<Long, Integer> expenseAmounts = new TreeMap<>();
+
+        /**
+         * Adds {@code sign} times an expense, or an allowance if {@code isAllowance}, of {@code amountInCents} at
+         * {@code hour} of the day.
+         */
+        void addExpense(long amountInCents, boolean isAllowance, int hour, int sign) {
+            addExpense(amountInCents, isAllowance, sign);
+            if (isAllowance) {
+                return;
+            }
+            expensesInCentsByHour[hour] += sign * amountInCents;
+            if (expenseAmounts.merge(amountInCents, sign, Integer::sum) == 0) {
+                expenseAmounts.remove(amountInCents);
+            }
+        }
+
+        public long getExpensesInCentsInHour(int hour) {
+            return expensesInCentsByHour[hour];
+        }
+
+        /**
+         * Returns the amount of the smallest expense in cents, or 0 if there is no expense.
+         */
+        public long getMinExpenseInCents() {
+            return expenseAmounts.isEmpty() ? 0 : expenseAmounts.firstKey();
+        }
+
+        /**
+         * Returns the amount of the largest expense in cents, or 0 if there is no expense.
+         */
+        public long getMaxExpenseInCents() {
+            return expenseAmounts.isEmpty() ? 0 : expenseAmounts.lastKey();
+        }
+    }
+}
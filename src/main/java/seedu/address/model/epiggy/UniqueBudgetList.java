@@ -5,13 +5,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.epiggy.Budget.CURRENT_BUDGET;
 
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import seedu.address.commons.util.BatchedObservableList;
 import seedu.address.model.epiggy.exceptions.DuplicateBudgetException;
 
 //@@author tehwenyi
@@ -23,13 +28,20 @@ import seedu.address.model.epiggy.exceptions.DuplicateBudgetException;
  * unique in terms of identity in the UniqueBudgetList. However, the removal of a budget uses Budget#equals(Object) so
  * as to ensure that the budget with exactly the same fields will be removed.
  *
+ * Budgets are also indexed by the epoch day of their start dates, so that looking up the budget containing a
+ * date takes logarithmic time. As budgets are not allowed to overlap, the budget containing a date can only be
+ * the one with the latest start date on or before that date. The index maps to the budgets themselves rather than
+ * to their positions, so adding or removing a budget only changes its own entry, and the position of a budget is
+ * found by binary search in the list, which is ordered from the latest to the earliest start date.
+ *
  * Supports a minimal set of list operations.
  */
 public class UniqueBudgetList implements Iterable<Budget> {
-    public static final int MAXIMUM_SIZE = 20;
-    private final ObservableList<Budget> internalList = FXCollections.observableArrayList();
+    public static final int MAXIMUM_SIZE = 1000;
+    private final BatchedObservableList<Budget> internalList = new BatchedObservableList<>();
     private final ObservableList<Budget> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NavigableMap<Long, Budget> startDayIndex = new TreeMap<>();
 
     /**
      * Adds a new budget to the specified index.
@@ -39,6 +51,7 @@ public class UniqueBudgetList implements Iterable<Budget> {
     public void addAtIndex(int index, Budget toAdd) {
         requireNonNull(toAdd);
         internalList.add(index, toAdd);
+        addToIndex(toAdd);
         limitSize();
     }
 
@@ -49,8 +62,9 @@ public class UniqueBudgetList implements Iterable<Budget> {
      */
     public void replaceAtIndex(int index, Budget toSet) {
         requireNonNull(toSet);
-        internalList.set(index, toSet);
-        limitSize();
+        Budget replaced = internalList.set(index, toSet);
+        removeFromIndex(replaced);
+        addToIndex(toSet);
     }
 
     /**
@@ -69,11 +83,14 @@ public class UniqueBudgetList implements Iterable<Budget> {
     public int getBudgetIndexBasedOnDate(Date date) {
         requireAllNonNull(internalList, date);
 
-        for (int i = 0; i < internalList.size(); i++) {
-            Budget toCheck = internalList.get(i);
+        Map.Entry<Long, Budget> entry = startDayIndex.floorEntry(toEpochDay(date));
+        // The start date may be later in the day than the date, so the date may only be in the budget before it.
+        for (int i = 0; i < 2 && entry != null; i++) {
+            Budget toCheck = entry.getValue();
             if ((!toCheck.getStartDate().after(date)) && (!toCheck.getEndDate().before(date))) {
-                return i;
+                return indexOf(toCheck);
             }
+            entry = startDayIndex.lowerEntry(entry.getKey());
         }
         return -1;
     }
@@ -83,16 +100,46 @@ public class UniqueBudgetList implements Iterable<Budget> {
      * @return -1 if there is no current budget.
      */
     public int getCurrentBudgetIndex() {
-        int index = 0;
-        while (index < internalList.size()) {
-            if (internalList.get(index).getStatus().equals(CURRENT_BUDGET)) {
-                return index;
-            }
-            index++;
+        int index = getBudgetIndexBasedOnDate(new Date());
+        if (index >= 0 && internalList.get(index).getStatus().equals(CURRENT_BUDGET)) {
+            return index;
         }
         return -1;
     }
 
+    /**
+     * Gets the index at which a budget starting on {@code startDate} should be added into {@code budgetList},
+     * which is ordered from the latest to the earliest start date.
+     * @return the index of the first budget which starts before {@code startDate}.
+     */
+    public static int getInsertionIndex(List<Budget> budgetList, Date startDate) {
+        requireAllNonNull(budgetList, startDate);
+        int low = 0;
+        int high = budgetList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (budgetList.get(mid).getStartDate().before(startDate)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of {@code budget} in the list, which must contain it.
+     * The position is found by binary search, unless the list is not ordered by start date, such as when it was
+     * loaded from a file which was edited by hand.
+     */
+    private int indexOf(Budget budget) {
+        int index = getInsertionIndex(internalList, budget.getStartDate()) - 1;
+        if (index >= 0 && internalList.get(index) == budget) {
+            return index;
+        }
+        return internalList.indexOf(budget);
+    }
+
     /**
      * Gets the size of internal list.
      * @return the size of {@code internalList}.
@@ -112,8 +159,47 @@ public class UniqueBudgetList implements Iterable<Budget> {
             throw new DuplicateBudgetException();
         }
 
-        this.internalList.setAll(newBudgetList);
-        limitSize();
+        internalList.beginBatch();
+        try {
+            internalList.setAll(newBudgetList);
+            startDayIndex.clear();
+            internalList.forEach(this::addToIndex);
+            limitSize();
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Replaces the budgets from index {@code from} (inclusive) to {@code to} (exclusive) with {@code replacement}.
+     * Listeners are notified of the replacement as a single change.
+     * @param replacement the budgets to replace with, which must not overlap with the remaining budgets.
+     */
+    public void replaceRange(int from, int to, List<Budget> replacement) {
+        requireAllNonNull(replacement);
+        internalList.beginBatch();
+        try {
+            internalList.subList(from, to).forEach(this::removeFromIndex);
+            internalList.remove(from, to);
+            internalList.addAll(from, replacement);
+            replacement.forEach(this::addToIndex);
+        } finally {
+            internalList.endBatch();
+        }
+    }
+
+    /**
+     * Starts a batch of changes, which listeners of the list are notified of as a single change when the batch ends.
+     */
+    public void beginBatch() {
+        internalList.beginBatch();
+    }
+
+    /**
+     * Ends the batch started by the last call to {@link #beginBatch()}.
+     */
+    public void endBatch() {
+        internalList.endBatch();
     }
 
     /**
@@ -136,20 +222,34 @@ public class UniqueBudgetList implements Iterable<Budget> {
      */
     private void limitSize() {
         requireNonNull(internalList);
-        int budgetListSize = internalList.size();
-        if (budgetListSize > MAXIMUM_SIZE) {
-            for (int i = budgetListSize; i > MAXIMUM_SIZE; i--) {
-                internalList.remove(MAXIMUM_SIZE);
-            }
+        if (internalList.size() > MAXIMUM_SIZE) {
+            internalList.subList(MAXIMUM_SIZE, internalList.size()).forEach(this::removeFromIndex);
+            internalList.remove(MAXIMUM_SIZE, internalList.size());
         }
     }
 
+    private void addToIndex(Budget budget) {
+        startDayIndex.put(toEpochDay(budget.getStartDate()), budget);
+    }
+
+    private void removeFromIndex(Budget budget) {
+        startDayIndex.remove(toEpochDay(budget.getStartDate()), budget);
+    }
+
+    /**
+     * Converts {@code date} into the number of days since the epoch in the system time zone.
+     */
+    private static long toEpochDay(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
     /**
      * Removes the budget with the specific index from the list.
      * The budget of the index must exist in the list.
      * @param index of the budget to be removed.
      */
     public void remove(int index) {
+        removeFromIndex(internalList.get(index));
         internalList.remove(index, index + 1);
     }
 
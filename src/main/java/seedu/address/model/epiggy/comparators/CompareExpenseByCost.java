@@ -19,6 +19,6 @@ public class CompareExpenseByCost implements Comparator<Expense> {
         if (o1.getItem().getCost() == null || o2.getItem().getCost() == null) {
             return 0;
         }
-        return o1.getItem().getCost().getAmount() < o2.getItem().getCost().getAmount() ? 1 : -1;
+        return o2.getItem().getCost().compareTo(o1.getItem().getCost());
     }
 }
@@ -0,0 +1,182 @@
+package seedu.address.model.epiggy.comparators;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.PermutedList;
+import seedu.address.model.epiggy.Expense;
+
+/**
+ * Sorts expenses by one or more keys, each key breaking the ties of the keys before it.
+ * Names are sorted in lexicographical order ignoring case, and costs and dates with the largest and latest first,
+ * the same as {@code CompareExpenseByName}, {@code CompareExpenseByCost} and {@code CompareExpenseByDate}.
+ *
+ * {@link #sortedOrder(List)} extracts the keys of each expense once, and sorts the extracted keys instead of
+ * comparing the expenses themselves. Lists of at least {@code PARALLEL_THRESHOLD} expenses are sorted in parallel.
+ * {@link #compare(Expense, Expense)} reads the keys of the two expenses without extracting them, as it is used to
+ * insert a single expense into a sorted list.
+ */
+public class ExpenseSort implements PermutedList.Ordering<Expense> {
+
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * A key to sort expenses by.
+     */
+    public enum Key {
+        NAME, COST, DATE
+    }
+
+    private final List<Key> keys;
+    private final boolean isByName;
+
+    /**
+     * Creates a sort by {@code keys}, in order of precedence.
+     * {@code keys} must not be empty or contain the same key twice.
+     */
+    public ExpenseSort(List<Key> keys) {
+        requireNonNull(keys);
+        if (keys.isEmpty() || keys.stream().distinct().count() != keys.size()) {
+            throw new IllegalArgumentException("Sort keys must be non-empty and distinct: " + keys);
+        }
+        this.keys = Collections.unmodifiableList(new ArrayList<>(keys));
+        isByName = keys.contains(Key.NAME);
+    }
+
+    public ExpenseSort(Key... keys) {
+        this(Arrays.asList(keys));
+    }
+
+    public List<Key> getKeys() {
+        return keys;
+    }
+
+    @Override
+    public int compare(Expense first, Expense second) {
+        for (Key key : keys) {
+            int result;
+            switch (key) {
+            case NAME:
+                result = first.getItem().getName().name.compareToIgnoreCase(second.getItem().getName().name);
+                break;
+            case COST:
+                result = Long.compare(second.getItem().getCost().getAmountInCents(),
+                        first.getItem().getCost().getAmountInCents());
+                break;
+            case DATE:
+                result = Long.compare(second.getDate().getTime(), first.getDate().getTime());
+                break;
+            default:
+                throw new AssertionError("Unknown sort key: " + key);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the index in {@code expenses} of the expense at each position of the sorted order.
+     * Expenses with the same keys keep their order in {@code expenses}.
+     */
+    @Override
+    public int[] sortedOrder(List<? extends Expense> expenses) {
+        requireNonNull(expenses);
+        int size = expenses.size();
+        boolean isParallel = size >= PARALLEL_THRESHOLD;
+
+        SortKeys[] sortKeys = new SortKeys[size];
+        IntStream indexes = isParallel ? IntStream.range(0, size).parallel() : IntStream.range(0, size);
+        indexes.forEach(i -> sortKeys[i] = new SortKeys(expenses.get(i), i, isByName));
+        if (isParallel) {
+            Arrays.parallelSort(sortKeys, this::compareKeys);
+        } else {
+            Arrays.sort(sortKeys, this::compareKeys);
+        }
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = sortKeys[i].index;
+        }
+        return order;
+    }
+
+    /**
+     * Compares the keys of two expenses by each key of this sort in turn.
+     */
+    private int compareKeys(SortKeys first, SortKeys second) {
+        for (Key key : keys) {
+            int result;
+            switch (key) {
+            case NAME:
+                result = first.name.compareTo(second.name);
+                break;
+            case COST:
+                result = Long.compare(second.costInCents, first.costInCents);
+                break;
+            case DATE:
+                result = Long.compare(second.time, first.time);
+                break;
+            default:
+                throw new AssertionError("Unknown sort key: " + key);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns {@code name} with each character folded the way {@code String#compareToIgnoreCase} compares it, so
+     * that comparing the folded names gives the same order as comparing the names ignoring case.
+     */
+    private static String foldCase(String name) {
+        char[] folded = new char[name.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return new String(folded);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExpenseSort // instanceof handles nulls
+                && keys.equals(((ExpenseSort) other).keys));
+    }
+
+    @Override
+    public int hashCode() {
+        return keys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ExpenseSort" + keys;
+    }
+
+    /**
+     * The keys of an expense, extracted once so that sorting does not read the fields of the expense again.
+     * The name is only folded if the expenses are sorted by name.
+     */
+    private static class SortKeys {
+        private final int index;
+        private final String name;
+        private final long costInCents;
+        private final long time;
+
+        SortKeys(Expense expense, int index, boolean hasName) {
+            this.index = index;
+            name = hasName ? foldCase(expense.getItem().getName().name) : null;
+            costInCents = expense.getItem().getCost().getAmountInCents();
+            time = expense.getDate().getTime();
+        }
+    }
+}
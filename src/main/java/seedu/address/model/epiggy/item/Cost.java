@@ -10,29 +10,64 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Represents a Cost.
+ * The amount is kept as a whole number of cents, so that sums and differences of costs are exact.
  * Guarantees: immutable
  */
-public class Cost {
+public class Cost implements Comparable<Cost> {
     public static final String MESSAGE_CONSTRAINTS = "Cost should be an numerical amount not more than 6 digits.";
     private static final Pattern AMOUNT_FORMAT = Pattern.compile("^(?!\\.?$)\\d{0,6}(\\.\\d{0,2})?$");
-    private final double amount;
+    private static final int CENTS_PER_DOLLAR = 100;
+    private final long amountInCents;
 
+    /**
+     * Constructs a {@code Cost} of {@code amount} dollars, rounded to the nearest cent.
+     */
     public Cost(double amount) {
-        this.amount = amount;
+        this.amountInCents = Math.round(amount * CENTS_PER_DOLLAR);
     }
 
     public Cost(String amount) {
         requireNonNull(amount);
         checkArgument(isValidCost(amount), MESSAGE_CONSTRAINTS);
-        this.amount = Double.parseDouble(amount);
+        this.amountInCents = Math.round(Double.parseDouble(amount) * CENTS_PER_DOLLAR);
+    }
+
+    private Cost(long amountInCents) {
+        this.amountInCents = amountInCents;
+    }
+
+    /**
+     * Returns a {@code Cost} of {@code amountInCents} cents.
+     */
+    public static Cost fromCents(long amountInCents) {
+        return new Cost(amountInCents);
     }
 
     public Cost deduct(Cost amountToDeduct) {
-        return new Cost(this.amount - amountToDeduct.getAmount());
+        return new Cost(this.amountInCents - amountToDeduct.amountInCents);
+    }
+
+    public Cost add(Cost amountToAdd) {
+        return new Cost(this.amountInCents + amountToAdd.amountInCents);
+    }
+
+    public Cost negate() {
+        return new Cost(-amountInCents);
+    }
+
+    public boolean isNegative() {
+        return amountInCents < 0;
     }
 
+    /**
+     * Returns the amount in dollars.
+     */
     public double getAmount() {
-        return amount;
+        return (double) amountInCents / CENTS_PER_DOLLAR;
+    }
+
+    public long getAmountInCents() {
+        return amountInCents;
     }
 
     /**
@@ -51,9 +86,23 @@ public class Cost {
         }
     }
 
+    /**
+     * Returns true if a given number of cents is a valid Cost.
+     */
+    public static boolean isValidCost(long amountInCents) {
+        return amountInCents > 0 && amountInCents < 1000000L * CENTS_PER_DOLLAR;
+    }
+
+    @Override
+    public int compareTo(Cost other) {
+        return Long.compare(amountInCents, other.amountInCents);
+    }
+
     @Override
     public String toString() {
-        return String.format("%.2f", amount);
+        long absoluteAmount = Math.abs(amountInCents);
+        return String.format("%s%d.%02d", amountInCents < 0 ? "-" : "",
+                absoluteAmount / CENTS_PER_DOLLAR, absoluteAmount % CENTS_PER_DOLLAR);
     }
 
     @Override
@@ -64,6 +113,11 @@ public class Cost {
         if (!(other instanceof Cost)) {
             return false;
         }
-        return amount == ((Cost) other).getAmount();
+        return amountInCents == ((Cost) other).amountInCents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amountInCents);
     }
 }
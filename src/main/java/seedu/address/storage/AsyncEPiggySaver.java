@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.EPiggyChanges;
+import seedu.address.model.ListBackedEPiggy;
+import seedu.address.model.ReadOnlyEPiggy;
+import seedu.address.storage.epiggy.EPiggyStorage;
+
+/**
+ * Saves ePiggy data to an {@code EPiggyStorage} on a background thread, so that the caller does not wait for the
+ * data to be written.
+ * The caller only hands over the changes made since its last request, so it does not copy the whole data for each
+ * save. The saver keeps its own copy of the data in plain lists, and makes the changes to it before they are saved,
+ * without any of the listeners, indexes and totals of the epiggy being updated for the copy.
+ * Changes requested while an earlier save is being written are saved together next.
+ * Failed saves are reported to the failure listeners, and retried by {@link #shutdown()}.
+ */
+public class AsyncEPiggySaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncEPiggySaver.class);
+
+    private final EPiggyStorage storage;
+    private final Executor listenerExecutor;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ePiggy saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Consumer<IOException>> failureListeners = new CopyOnWriteArrayList<>();
+
+    /** The changes which have been requested to be saved but are not being written yet. */
+    private final List<EPiggyChanges> pendingChanges = new ArrayList<>();
+    /** The data with all the changes taken from {@code pendingChanges} made to it, only used by the saver thread. */
+    private ListBackedEPiggy data;
+    private volatile boolean isStarted;
+    /** Whether the latest save failed, and no later save has succeeded since. */
+    private volatile boolean isUnsaved;
+
+    /**
+     * Creates a saver which writes to {@code storage}, and notifies its failure listeners through
+     * {@code listenerExecutor}.
+     */
+    public AsyncEPiggySaver(EPiggyStorage storage, Executor listenerExecutor) {
+        requireNonNull(storage);
+        requireNonNull(listenerExecutor);
+        this.storage = storage;
+        this.listenerExecutor = listenerExecutor;
+    }
+
+    /**
+     * Adds a listener to be notified with the exception when a save fails.
+     */
+    public void addFailureListener(Consumer<IOException> listener) {
+        failureListeners.add(listener);
+    }
+
+    /**
+     * Starts keeping a copy of {@code ePiggy}, whose later changes are requested to be saved.
+     * Must be called once, before any changes are requested.
+     */
+    public void start(ReadOnlyEPiggy ePiggy) {
+        requireNonNull(ePiggy);
+        ListBackedEPiggy copy = new ListBackedEPiggy(ePiggy);
+        executor.execute(() -> data = copy);
+        isStarted = true;
+    }
+
+    /**
+     * Requests {@code changes} to be made to the data and saved on the background thread, after the changes
+     * requested before them.
+     *
+     * @throws IllegalStateException if the saver has not been started.
+     */
+    public void requestSave(EPiggyChanges changes) {
+        requireNonNull(changes);
+        if (!isStarted) {
+            throw new IllegalStateException("The saver must be started before changes are saved.");
+        }
+        synchronized (pendingChanges) {
+            pendingChanges.add(changes);
+            if (pendingChanges.size() > 1) {
+                return; // a save of the earlier changes is waiting to be written, and will take these too
+            }
+        }
+        executor.execute(this::savePendingChanges);
+    }
+
+    /**
+     * Removes and returns the changes which have been requested so far.
+     */
+    private List<EPiggyChanges> takePendingChanges() {
+        synchronized (pendingChanges) {
+            List<EPiggyChanges> changes = new ArrayList<>(pendingChanges);
+            pendingChanges.clear();
+            return changes;
+        }
+    }
+
+    /**
+     * Makes the requested changes to the data and saves them, if they have not been saved yet.
+     */
+    private void savePendingChanges() {
+        List<EPiggyChanges> changes = takePendingChanges();
+        if (changes.isEmpty()) {
+            return;
+        }
+        changes.forEach(change -> change.applyTo(data));
+        try {
+            storage.saveEPiggyChanges(data, changes);
+            isUnsaved = false;
+        } catch (IOException e) {
+            logger.warning("Failed to save ePiggy data in the background " + StringUtil.getDetails(e));
+            isUnsaved = true;
+            for (Consumer<IOException> listener : failureListeners) {
+                listenerExecutor.execute(() -> listener.accept(e));
+            }
+        }
+    }
+
+    /**
+     * Waits for all saves requested so far to be written, or to fail.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Flushing does not throw", e);
+        }
+    }
+
+    /**
+     * Waits for all requested saves to be written, and stops the background thread.
+     * If the latest save failed, the whole data is saved again on the calling thread.
+     *
+     * @throws IOException if the latest data still cannot be saved.
+     */
+    public void shutdown() throws IOException {
+        executor.shutdown();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                logger.info("Waiting for ePiggy data to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<EPiggyChanges> changes = takePendingChanges();
+        if (data == null) {
+            return;
+        }
+        changes.forEach(change -> change.applyTo(data));
+        if (isUnsaved) {
+            storage.saveEPiggy(data);
+            isUnsaved = false;
+        } else if (!changes.isEmpty()) {
+            storage.saveEPiggyChanges(data, changes);
+        }
+    }
+}
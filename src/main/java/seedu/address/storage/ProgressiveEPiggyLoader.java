@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.Model;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.storage.epiggy.PartialEPiggy;
+
+/**
+ * Loads the older expenses of a {@code PartialEPiggy} into a {@code Model} which holds its recent part, so that the
+ * app can be used before all the expenses are read.
+ * The older expenses are read on a background thread, and inserted into the model in batches through an
+ * {@code Executor}, so that the model is only changed on the thread which runs the executor's tasks.
+ */
+public class ProgressiveEPiggyLoader {
+
+    public static final int BATCH_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ProgressiveEPiggyLoader.class);
+
+    private final Model model;
+    private final PartialEPiggy data;
+    private final Executor modelExecutor;
+    private final Queue<List<Expense>> readBatches = new ConcurrentLinkedQueue<>();
+    /** Completed once all the older expenses have been read, or exceptionally if they cannot be read. */
+    private final CompletableFuture<Void> readiness = new CompletableFuture<>();
+    private int insertedCount;
+
+    /**
+     * Creates a loader which inserts the older expenses of {@code data} into {@code model} through
+     * {@code modelExecutor}.
+     * {@code model} must hold the recent part of {@code data}.
+     */
+    public ProgressiveEPiggyLoader(Model model, PartialEPiggy data, Executor modelExecutor) {
+        requireNonNull(model);
+        requireNonNull(data);
+        requireNonNull(modelExecutor);
+        this.model = model;
+        this.data = data;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Starts reading the older expenses on a background thread.
+     */
+    public void start() {
+        if (data.getOlderExpenseCount() == 0) {
+            readiness.complete(null);
+            return;
+        }
+        logger.info("Loading " + data.getOlderExpenseCount() + " older expenses in the background");
+        Thread thread = new Thread(this::readOlderExpenses, "ePiggy loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reads the older expenses, and hands each batch to the model executor to be inserted into the model.
+     */
+    private void readOlderExpenses() {
+        try {
+            data.readOlderExpenses(BATCH_SIZE, batch -> {
+                readBatches.add(batch);
+                modelExecutor.execute(this::insertReadBatches);
+            });
+            readiness.complete(null);
+        } catch (DataConversionException e) {
+            logger.warning("Older expenses could not be loaded: " + e);
+            readiness.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            logger.warning("Older expenses could not be loaded: " + e);
+            readiness.completeExceptionally(new DataConversionException(e));
+        }
+    }
+
+    /**
+     * Inserts the batches which have been read so far into the model, after the expenses inserted before them.
+     */
+    private synchronized void insertReadBatches() {
+        for (List<Expense> batch = readBatches.poll(); batch != null; batch = readBatches.poll()) {
+            model.addOlderExpenses(insertedCount, batch);
+            insertedCount += batch.size();
+        }
+    }
+
+    /**
+     * Waits for all the older expenses to be read, and inserts those which are not in the model yet on the calling
+     * thread, so that the model holds all the data when this method returns.
+     * Must be called on the thread which runs the tasks of the model executor.
+     *
+     * @throws DataConversionException if the older expenses cannot be read.
+     */
+    public void awaitFullData() throws DataConversionException {
+        try {
+            readiness.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataConversionException(e);
+        } catch (ExecutionException e) {
+            throw (DataConversionException) e.getCause();
+        }
+        insertReadBatches();
+    }
+}
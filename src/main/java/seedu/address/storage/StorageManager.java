@@ -2,16 +2,19 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.EPiggyChanges;
 import seedu.address.model.ReadOnlyEPiggy;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 
 import seedu.address.storage.epiggy.EPiggyStorage;
+import seedu.address.storage.epiggy.PartialEPiggy;
 
 /**
  * Manages storage of EPiggy data in local storage.
@@ -65,6 +68,13 @@ public class StorageManager implements Storage {
         return ePiggyStorage.readEPiggy(filePath);
     }
 
+    @Override
+    public Optional<PartialEPiggy> readEPiggyInParts(int recentExpenseCount)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read data in parts from file: " + getEPiggyFilePath());
+        return ePiggyStorage.readEPiggyInParts(recentExpenseCount);
+    }
+
     @Override
     public void saveEPiggy(ReadOnlyEPiggy ePiggy) throws IOException {
         saveEPiggy(ePiggy, ePiggyStorage.getEPiggyFilePath());
@@ -76,6 +86,12 @@ public class StorageManager implements Storage {
         ePiggyStorage.saveEPiggy(ePiggy, filePath);
     }
 
+    @Override
+    public void saveEPiggyChanges(ReadOnlyEPiggy ePiggy, List<EPiggyChanges> changes) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + getEPiggyFilePath());
+        ePiggyStorage.saveEPiggyChanges(ePiggy, changes);
+    }
+
     @Override
     public void backupEPiggy(ReadOnlyEPiggy ePiggy) throws IOException {
         logger.fine("Creating a backup file: " + getEPiggyFilePath() + ".backup");
@@ -0,0 +1,427 @@
+package seedu.address.storage.epiggy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.EPiggy;
+import seedu.address.model.ReadOnlyEPiggy;
+import seedu.address.model.epiggy.Allowance;
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.model.epiggy.item.Item;
+import seedu.address.model.epiggy.item.Name;
+import seedu.address.model.epiggy.item.Period;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes an epiggy into the binary format of a {@code BinaryEPiggyStorage}, and decodes it back.
+ *
+ * The format starts with the bytes {@code EPIG} and a format version, followed by
+ * <ul>
+ *     <li>a dictionary of the distinct tag names, which the expenses refer to by their position,</li>
+ *     <li>the expenses, each as a record holding its type, name, cost in cents, date as days since the epoch
+ *     and tag positions,</li>
+ *     <li>the budgets, each as a record holding its amount in cents, start date and period in days,</li>
+ *     <li>a flag telling if there is a goal, followed by a record holding its name and amount in cents.</li>
+ * </ul>
+ * Counts and numbers are stored as variable length integers, and strings as their UTF-8 length and bytes.
+ * Each record is prefixed by its length, so that a later version can add fields to the end of a record which
+ * this version skips.
+ */
+class BinaryEPiggyCodec {
+
+    static final byte[] MAGIC = {'E', 'P', 'I', 'G'};
+    static final int FORMAT_VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY_EPIGGY = "File is not a binary epiggy file!";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Binary epiggy format version %d is not supported!";
+    static final String MESSAGE_TRUNCATED = "Binary epiggy file ends too early!";
+    static final String MESSAGE_INVALID_TAG_ID = "Expense refers to an unknown tag!";
+
+    private static final byte TYPE_EXPENSE = 0;
+    private static final byte TYPE_ALLOWANCE = 1;
+
+    private BinaryEPiggyCodec() {} // prevents instantiation
+
+    /**
+     * Writes {@code ePiggy} to {@code out} in the binary format.
+     */
+    static void encode(ReadOnlyEPiggy ePiggy, OutputStream out) throws IOException {
+        Map<Tag, Integer> tagIds = new LinkedHashMap<>();
+        for (Expense expense : ePiggy.getExpenseList()) {
+            for (Tag tag : expense.getItem().getTags()) {
+                tagIds.putIfAbsent(tag, tagIds.size());
+            }
+        }
+
+        ByteSink sink = new ByteSink();
+        sink.writeBytes(MAGIC);
+        sink.writeVarint(FORMAT_VERSION);
+        sink.writeVarint(tagIds.size());
+        for (Tag tag : tagIds.keySet()) {
+            sink.writeString(tag.tagName);
+        }
+        sink.writeTo(out);
+
+        ByteSink record = new ByteSink();
+        sink.writeVarint(ePiggy.getExpenseList().size());
+        for (Expense expense : ePiggy.getExpenseList()) {
+            Item item = expense.getItem();
+            record.writeByte(expense instanceof Allowance ? TYPE_ALLOWANCE : TYPE_EXPENSE);
+            record.writeString(item.getName().name);
+            record.writeVarint(item.getCost().getAmountInCents());
+            record.writeZigZag(toEpochDay(expense.getDate()));
+            record.writeVarint(item.getTags().size());
+            for (Tag tag : item.getTags()) {
+                record.writeVarint(tagIds.get(tag));
+            }
+            sink.writeRecord(record);
+            sink.writeTo(out);
+        }
+
+        sink.writeVarint(ePiggy.getBudgetList().size());
+        for (Budget budget : ePiggy.getBudgetList()) {
+            record.writeVarint(budget.getBudgetedAmount().getAmountInCents());
+            record.writeZigZag(toEpochDay(budget.getStartDate()));
+            record.writeVarint(budget.getPeriod().getTimePeriod());
+            sink.writeRecord(record);
+        }
+
+        Goal goal = ePiggy.getGoal().get();
+        sink.writeByte(goal == null ? 0 : 1);
+        if (goal != null) {
+            record.writeString(goal.getName().name);
+            record.writeVarint(goal.getAmount().getAmountInCents());
+            sink.writeRecord(record);
+        }
+        sink.writeTo(out);
+    }
+
+    /**
+     * Reads an epiggy in the binary format from {@code buffer} in two parts, where the recent part holds the last
+     * {@code recentExpenseCount} expenses.
+     * The budgets and goal are added after the recent expenses, as in {@code JsonSerializableEPiggy#toModelType()}.
+     * The records of the older expenses are skipped by their lengths without being decoded, and are decoded from a
+     * copy of their bytes when the older expenses are read, so {@code buffer} is not kept after this method returns.
+     *
+     * @throws IllegalValueException if {@code buffer} is not in the binary format, or any data constraints are
+     *         violated.
+     */
+    static PartialEPiggy decodeInParts(ByteBuffer buffer, int recentExpenseCount) throws IllegalValueException {
+        try {
+            ByteSource source = new ByteSource(buffer);
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_EPIGGY);
+            }
+            long version = source.readVarint();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            List<Tag> tags = new ArrayList<>();
+            for (long i = source.readVarint(); i > 0; i--) {
+                String tagName = source.readString();
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags.add(new Tag(tagName));
+            }
+
+            int expenseCount = source.toLength(source.readVarint());
+            int olderExpenseCount = Math.max(0, expenseCount - recentExpenseCount);
+            int olderExpensesStart = buffer.position();
+            for (int i = 0; i < olderExpenseCount; i++) {
+                source.skipTo(source.readRecordEnd());
+            }
+            ByteBuffer olderExpenses = copyOf(buffer, olderExpensesStart, buffer.position());
+
+            List<Expense> recentExpenses = new ArrayList<>();
+            readExpenses(source, tags, expenseCount - olderExpenseCount, recentExpenses::add);
+
+            List<Budget> budgets = new ArrayList<>();
+            for (long i = source.readVarint(); i > 0; i--) {
+                int end = source.readRecordEnd();
+                Cost amount = readCost(source);
+                Date startDate = toDate(source.readZigZag());
+                budgets.add(new Budget(amount, readPeriod(source), startDate));
+                source.skipTo(end);
+            }
+
+            Goal goal = null;
+            if (buffer.get() != 0) {
+                int end = source.readRecordEnd();
+                goal = new Goal(readName(source), readCost(source));
+                source.skipTo(end);
+            }
+            EPiggy ePiggy = new EPiggy();
+            ePiggy.loadData(recentExpenses, budgets, goal);
+            return new PartialEPiggy(ePiggy, olderExpenseCount, consumer ->
+                    readExpenses(new ByteSource(olderExpenses.duplicate()), tags, olderExpenseCount, consumer));
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    /**
+     * Returns a heap buffer holding the bytes of {@code buffer} from {@code start} (inclusive) to {@code end}
+     * (exclusive), so that the mapping of {@code buffer} can be released by the garbage collector once the file
+     * is decoded.
+     */
+    private static ByteBuffer copyOf(ByteBuffer buffer, int start, int end) {
+        ByteBuffer range = buffer.duplicate();
+        range.position(start);
+        range.limit(end);
+        ByteBuffer copy = ByteBuffer.allocate(end - start);
+        copy.put(range);
+        copy.flip();
+        return copy;
+    }
+
+    /**
+     * Reads {@code count} expense records from {@code source}, and passes each expense to {@code consumer}.
+     */
+    private static void readExpenses(ByteSource source, List<Tag> tags, int count, Consumer<Expense> consumer)
+            throws IllegalValueException {
+        try {
+            for (int i = 0; i < count; i++) {
+                int end = source.readRecordEnd();
+                consumer.accept(readExpense(source, tags));
+                source.skipTo(end);
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    /**
+     * Reads the fields of an expense record, looking up its tags in {@code tags}.
+     */
+    private static Expense readExpense(ByteSource source, List<Tag> tags) throws IllegalValueException {
+        byte type = source.buffer.get();
+        Name name = readName(source);
+        Cost cost = readCost(source);
+        Date date = toDate(source.readZigZag());
+        Set<Tag> expenseTags = new HashSet<>();
+        for (long i = source.readVarint(); i > 0; i--) {
+            long tagId = source.readVarint();
+            if (tagId >= tags.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_TAG_ID);
+            }
+            expenseTags.add(tags.get((int) tagId));
+        }
+        Item item = new Item(name, cost, expenseTags);
+        return type == TYPE_ALLOWANCE ? new Allowance(item, date) : new Expense(item, date);
+    }
+
+    /**
+     * Reads a string and checks that it is a valid {@code Name}.
+     */
+    private static Name readName(ByteSource source) throws IllegalValueException {
+        String name = source.readString();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    /**
+     * Reads an amount in cents and checks that it is a valid {@code Cost}.
+     */
+    private static Cost readCost(ByteSource source) throws IllegalValueException {
+        long amountInCents = source.readVarint();
+        if (!Cost.isValidCost(amountInCents)) {
+            throw new IllegalValueException(Cost.MESSAGE_CONSTRAINTS);
+        }
+        return Cost.fromCents(amountInCents);
+    }
+
+    /**
+     * Reads a number of days and checks that it is a valid {@code Period}.
+     */
+    private static Period readPeriod(ByteSource source) throws IllegalValueException {
+        long period = source.readVarint();
+        if (period > Integer.MAX_VALUE || !Period.isValidPeriod((int) period)) {
+            throw new IllegalValueException(Period.MESSAGE_CONSTRAINTS);
+        }
+        return new Period((int) period);
+    }
+
+    /**
+     * Returns the number of days since the epoch of {@code date}, in the system time zone.
+     */
+    static long toEpochDay(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Returns the start of the day {@code epochDay} days after the epoch, in the system time zone.
+     */
+    static Date toDate(long epochDay) {
+        return Date.from(LocalDate.ofEpochDay(epochDay).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * A growable array of bytes, to which values are written in the binary format.
+     */
+    private static class ByteSink {
+        private byte[] bytes = new byte[256];
+        private int size;
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            bytes[size++] = (byte) value;
+        }
+
+        void writeBytes(byte[] values) {
+            ensureCapacity(values.length);
+            System.arraycopy(values, 0, bytes, size, values.length);
+            size += values.length;
+        }
+
+        /**
+         * Writes a non-negative {@code value} in 7 bit groups, lowest first, with the top bit of each byte set if
+         * more groups follow.
+         */
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        /**
+         * Writes {@code value}, which may be negative, so that values close to zero take few bytes.
+         */
+        void writeZigZag(long value) {
+            writeVarint(zigZag(value));
+        }
+
+        void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length);
+            writeBytes(utf8);
+        }
+
+        /**
+         * Writes the length and bytes of {@code record}, and empties it.
+         */
+        void writeRecord(ByteSink record) {
+            writeVarint(record.size);
+            ensureCapacity(record.size);
+            System.arraycopy(record.bytes, 0, bytes, size, record.size);
+            size += record.size;
+            record.size = 0;
+        }
+
+        /**
+         * Writes the bytes to {@code out}, and empties this sink.
+         */
+        void writeTo(OutputStream out) throws IOException {
+            out.write(bytes, 0, size);
+            size = 0;
+        }
+    }
+
+    /**
+     * Reads values in the binary format from a buffer.
+     */
+    private static class ByteSource {
+        private final ByteBuffer buffer;
+
+        ByteSource(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * Reads a value written by {@link ByteSink#writeVarint(long)}.
+         */
+        long readVarint() throws IllegalValueException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_EPIGGY);
+        }
+
+        /**
+         * Reads a value written by {@link ByteSink#writeZigZag(long)}.
+         */
+        long readZigZag() throws IllegalValueException {
+            long value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        /**
+         * Reads a string written by {@link ByteSink#writeString(String)}.
+         */
+        String readString() throws IllegalValueException {
+            int length = toLength(readVarint());
+            byte[] utf8 = new byte[length];
+            buffer.get(utf8);
+            return new String(utf8, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Skips the rest of a record which ends at {@code end}.
+         */
+        void skipTo(int end) throws IllegalValueException {
+            if (buffer.position() > end) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_EPIGGY);
+            }
+            buffer.position(end);
+        }
+
+        /**
+         * Reads the length of a record, and returns the position of its end.
+         */
+        int readRecordEnd() throws IllegalValueException {
+            int length = toLength(readVarint());
+            return buffer.position() + length;
+        }
+
+        /**
+         * Returns {@code length} as an int, after checking that there are that many bytes left in the buffer.
+         */
+        private int toLength(long length) throws IllegalValueException {
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            return (int) length;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package seedu.address.storage.epiggy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.EPiggy;
+import seedu.address.model.ReadOnlyEPiggy;
+
+/**
+ * A class to access epiggy data stored in a compact binary file on the hard disk.
+ * Costs are stored as whole numbers of cents, dates as days since the epoch and tags as positions in a dictionary
+ * of tag names, so the file is smaller and faster to read and write than the json file.
+ * If the binary file does not exist yet, the json file with the same name is read instead, so that existing data
+ * is carried over on the first save.
+ */
+public class BinaryEPiggyStorage implements EPiggyStorage {
+
+    public static final String FILE_EXTENSION = ".epiggy";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryEPiggyStorage.class);
+
+    private final Path filePath;
+    private final Path backupFilePath;
+
+    public BinaryEPiggyStorage(Path filePath) {
+        this.filePath = filePath;
+        backupFilePath = Paths.get(filePath.toString() + ".backup");
+    }
+
+    @Override
+    public Path getEPiggyFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEPiggy> readEPiggy() throws DataConversionException {
+        return readEPiggy(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyEPiggy> readEPiggy(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            Path jsonFilePath = toJsonFilePath(filePath);
+            logger.info("Binary file " + filePath + " not found, reading " + jsonFilePath + " instead");
+            return JsonEPiggyStream.read(jsonFilePath).map(ePiggy -> ePiggy);
+        }
+        return Optional.of(read(filePath));
+    }
+
+    @Override
+    public Optional<PartialEPiggy> readEPiggyInParts(int recentExpenseCount) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            Path jsonFilePath = toJsonFilePath(filePath);
+            logger.info("Binary file " + filePath + " not found, reading " + jsonFilePath + " instead");
+            return JsonEPiggyStream.readInParts(jsonFilePath, total -> total - recentExpenseCount);
+        }
+        return Optional.of(readInParts(filePath, recentExpenseCount));
+    }
+
+    /**
+     * Returns the path of the json file with the same name as the binary file {@code filePath}.
+     */
+    public static Path toJsonFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - FILE_EXTENSION.length());
+        }
+        return filePath.resolveSibling(fileName + JSON_FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the epiggy in the binary file {@code filePath}.
+     *
+     * @throws DataConversionException if the file cannot be read, is not in the binary format, or any data
+     *         constraints are violated.
+     */
+    private static ReadOnlyEPiggy read(Path filePath) throws DataConversionException {
+        return readInParts(filePath, Integer.MAX_VALUE).getRecentData();
+    }
+
+    /**
+     * Reads the epiggy in the binary file {@code filePath} in two parts, where the recent part holds the last
+     * {@code recentExpenseCount} expenses.
+     *
+     * @throws DataConversionException if the file cannot be read, is not in the binary format, or any data
+     *         constraints are violated.
+     */
+    private static PartialEPiggy readInParts(Path filePath, int recentExpenseCount) throws DataConversionException {
+        try {
+            return BinaryEPiggyCodec.decodeInParts(FileUtil.mapFile(filePath), recentExpenseCount);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveEPiggy(ReadOnlyEPiggy ePiggy) throws IOException {
+        saveEPiggy(ePiggy, filePath);
+    }
+
+    @Override
+    public void saveEPiggy(ReadOnlyEPiggy ePiggy, Path filePath) throws IOException {
+        requireNonNull(ePiggy);
+        requireNonNull(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> BinaryEPiggyCodec.encode(ePiggy, out));
+    }
+
+    @Override
+    public void backupEPiggy(ReadOnlyEPiggy ePiggy) throws IOException {
+        saveEPiggy(ePiggy, backupFilePath);
+    }
+
+    /**
+     * Converts the json file {@code jsonFilePath} into the binary file {@code binaryFilePath}.
+     *
+     * @throws DataConversionException if the json file is missing or cannot be read.
+     * @throws IOException if the binary file cannot be written.
+     */
+    public static void importFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        EPiggy ePiggy = JsonEPiggyStream.read(jsonFilePath)
+                .orElseThrow(() -> new DataConversionException(new IOException(jsonFilePath + " not found")));
+        new BinaryEPiggyStorage(binaryFilePath).saveEPiggy(ePiggy);
+    }
+
+    /**
+     * Converts the binary file {@code binaryFilePath} into the json file {@code jsonFilePath}.
+     *
+     * @throws DataConversionException if the binary file cannot be read.
+     * @throws IOException if the json file cannot be written.
+     */
+    public static void exportToJson(Path binaryFilePath, Path jsonFilePath) throws DataConversionException,
+            IOException {
+        JsonEPiggyStream.write(read(binaryFilePath), jsonFilePath);
+    }
+}
@@ -2,10 +2,12 @@ package seedu.address.storage.epiggy;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.EPiggy;
+import seedu.address.model.EPiggyChanges;
 import seedu.address.model.ReadOnlyEPiggy;
 
 //@@author kev-inc
@@ -20,9 +22,28 @@ public interface EPiggyStorage {
 
     Optional<ReadOnlyEPiggy> readEPiggy(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the data in two parts, where the recent part holds the last {@code recentExpenseCount} expenses, the
+     * budgets and the goal, and the older expenses are read later.
+     * Storages which cannot read the recent part on its own read all the data at once, with no older expenses.
+     * Returns {@code Optional.empty()} if the data file is not found.
+     */
+    default Optional<PartialEPiggy> readEPiggyInParts(int recentExpenseCount)
+            throws DataConversionException, IOException {
+        return readEPiggy().map(PartialEPiggy::new);
+    }
+
     void saveEPiggy(ReadOnlyEPiggy ePiggy) throws IOException;
 
     void saveEPiggy(ReadOnlyEPiggy ePiggy, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code ePiggy}, which is the data last saved by this storage with {@code changes} made to it in order.
+     * Storages which cannot save the changes on their own save the whole of {@code ePiggy}.
+     */
+    default void saveEPiggyChanges(ReadOnlyEPiggy ePiggy, List<EPiggyChanges> changes) throws IOException {
+        saveEPiggy(ePiggy);
+    }
+
     void backupEPiggy(ReadOnlyEPiggy ePiggy) throws IOException;
 }
@@ -0,0 +1,351 @@
+package seedu.address.storage.epiggy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EPiggy;
+import seedu.address.model.EPiggyChanges;
+import seedu.address.model.ReadOnlyEPiggy;
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.Goal;
+
+/**
+ * A class to access epiggy data stored as a json snapshot file and a journal of the changes made since the snapshot.
+ * Each save of changes appends one line to the journal for each change, holding only the expenses, budgets and goal
+ * which changed, so saving costs time in proportion to the changes instead of the whole epiggy. The remaining
+ * amounts of the budgets are computed again from the expenses when the journal is replayed.
+ * Once the journal holds {@code COMPACTION_THRESHOLD} records, the next save writes a new snapshot and empties the
+ * journal. Saving the whole epiggy always writes a new snapshot.
+ * Each snapshot is written with a new journal id, which the records of its journal hold too, so that records left
+ * from a journal which was already compacted are not replayed on a newer snapshot.
+ * Records are forced to the disk before the save returns. Reading stops at the first record which cannot be read or
+ * replayed, such as one which was only partly written, and the next save writes a new snapshot.
+ */
+public class JournalEPiggyStorage implements EPiggyStorage {
+
+    public static final int COMPACTION_THRESHOLD = 100;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalEPiggyStorage.class);
+    private static final int UNKNOWN_COUNT = -1;
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final JsonEPiggyStorage snapshotStorage;
+
+    /** The id shared by the snapshot and the records of its journal, or null if the snapshot has none. */
+    private String journalId;
+    /** The number of expenses as last saved, or {@code UNKNOWN_COUNT} if the next save must write a snapshot. */
+    private int savedExpenseCount = UNKNOWN_COUNT;
+    private int savedBudgetCount;
+    private int journalRecordCount;
+    /** Whether the journal last read holds records which were not replayed. */
+    private boolean isJournalDamaged;
+
+    public JournalEPiggyStorage(Path filePath) {
+        this.filePath = filePath;
+        journalFilePath = Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+        snapshotStorage = new JsonEPiggyStorage(filePath);
+    }
+
+    @Override
+    public Path getEPiggyFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyEPiggy> readEPiggy() throws DataConversionException {
+        return readEPiggy(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyEPiggy> readEPiggy(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readEPiggy(filePath);
+        }
+
+        Optional<EPiggy> snapshot = JsonEPiggyStream.read(filePath);
+        if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+        journalId = JsonEPiggyStream.readJournalId(filePath).orElse(null);
+
+        try {
+            ReadOnlyEPiggy ePiggy = replayJournal(readJournalRecords(), snapshot.orElseGet(EPiggy::new), 0);
+            savedExpenseCount = isJournalDamaged ? UNKNOWN_COUNT : ePiggy.getExpenseList().size();
+            savedBudgetCount = ePiggy.getBudgetList().size();
+            return Optional.of(ePiggy);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The older expenses are those before the first expense changed by the journal, so the journal is replayed on
+     * the recent part of the snapshot alone.
+     * As the older expenses are not known until they are read, the next save writes a new snapshot.
+     */
+    @Override
+    public Optional<PartialEPiggy> readEPiggyInParts(int recentExpenseCount) throws DataConversionException {
+        try {
+            journalId = JsonEPiggyStream.readJournalId(filePath).orElse(null);
+            List<JsonJournalRecord> records = readJournalRecords();
+            int firstChangedIndex = records.stream().mapToInt(JsonJournalRecord::getFrom).min()
+                    .orElse(Integer.MAX_VALUE);
+            Optional<PartialEPiggy> snapshot = JsonEPiggyStream.readInParts(filePath, total ->
+                    Math.min(total - recentExpenseCount, firstChangedIndex));
+            if (!snapshot.isPresent() && !Files.exists(journalFilePath)) {
+                return Optional.empty();
+            }
+
+            PartialEPiggy parts = snapshot.orElseGet(() -> new PartialEPiggy(new EPiggy()));
+            ReadOnlyEPiggy recentData = replayJournal(records, parts.getRecentData(), parts.getOlderExpenseCount());
+            savedExpenseCount = UNKNOWN_COUNT;
+            return Optional.of(parts.withRecentData(recentData));
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the records of the snapshot's journal, or an empty list if there is no journal.
+     * Records with another journal id are skipped, as they were written before the snapshot. Reading stops at the
+     * first line which cannot be read, as the records after it change data which is no longer known.
+     */
+    private List<JsonJournalRecord> readJournalRecords() throws IOException {
+        isJournalDamaged = false;
+        List<JsonJournalRecord> records = new ArrayList<>();
+        if (!Files.exists(journalFilePath)) {
+            return records;
+        }
+
+        int staleRecordCount = 0;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(journalFilePath), StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+                JsonJournalRecord record;
+                try {
+                    record = JsonUtil.fromJsonString(line, JsonJournalRecord.class);
+                } catch (IOException e) {
+                    logger.warning("Ignoring journal " + journalFilePath + " from line " + lineNumber
+                            + ", which cannot be read: " + e.getMessage());
+                    isJournalDamaged = true;
+                    break;
+                }
+                if (Objects.equals(record.getJournalId(), journalId)) {
+                    records.add(record);
+                } else {
+                    staleRecordCount++;
+                }
+            }
+        }
+        if (staleRecordCount > 0) {
+            logger.warning("Ignoring " + staleRecordCount + " records of journal " + journalFilePath
+                    + " which were written before its snapshot");
+            isJournalDamaged = true;
+        }
+        return records;
+    }
+
+    /**
+     * Applies {@code records} to {@code snapshot}, whose expenses come after {@code offset} expenses which the
+     * records do not change, and returns the result.
+     * Replaying stops at the first record which does not fit the data or holds illegal values.
+     */
+    private ReadOnlyEPiggy replayJournal(List<JsonJournalRecord> records, ReadOnlyEPiggy snapshot, int offset) {
+        journalRecordCount = 0;
+        List<Expense> expenses = new ArrayList<>(snapshot.getExpenseList());
+        List<Budget> budgets = snapshot.getBudgetList().stream().map(Budget::new).collect(Collectors.toList());
+        Goal goal = snapshot.getGoal().get();
+        for (JsonJournalRecord record : records) {
+            try {
+                Goal recordGoal = record.getGoal() == null ? goal : record.getGoal().toModelType();
+                record.applyTo(expenses, offset, budgets);
+                goal = recordGoal;
+            } catch (IllegalValueException e) {
+                logger.warning("Ignoring journal " + journalFilePath + " from record " + (journalRecordCount + 1)
+                        + ", which cannot be replayed: " + e.getMessage());
+                isJournalDamaged = true;
+                break;
+            }
+            journalRecordCount++;
+        }
+        if (journalRecordCount == 0) {
+            return snapshot;
+        }
+
+        EPiggy ePiggy = new EPiggy();
+        ePiggy.loadData(expenses, budgets, goal);
+        return ePiggy;
+    }
+
+    @Override
+    public void saveEPiggy(ReadOnlyEPiggy ePiggy) throws IOException {
+        saveEPiggy(ePiggy, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Saving to the file of this storage writes a new snapshot, as the changes since the last save are not known.
+     */
+    @Override
+    public void saveEPiggy(ReadOnlyEPiggy ePiggy, Path filePath) throws IOException {
+        requireNonNull(ePiggy);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveEPiggy(ePiggy, filePath);
+            return;
+        }
+        compact(ePiggy);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The changes are appended to the journal, unless it is due to be compacted, or the changes were not made to
+     * the data last saved by this storage, in which case {@code ePiggy} is written as a new snapshot.
+     */
+    @Override
+    public void saveEPiggyChanges(ReadOnlyEPiggy ePiggy, List<EPiggyChanges> changes) throws IOException {
+        requireNonNull(ePiggy);
+        requireNonNull(changes);
+        if (savedExpenseCount == UNKNOWN_COUNT || journalRecordCount >= COMPACTION_THRESHOLD
+                || !isMadeToSavedData(changes)) {
+            compact(ePiggy);
+        } else {
+            appendChanges(changes);
+        }
+    }
+
+    /**
+     * Returns true if each of {@code changes} was made to the data left by the changes before it, starting from the
+     * data last saved.
+     */
+    private boolean isMadeToSavedData(List<EPiggyChanges> changes) {
+        int expenseCount = savedExpenseCount;
+        int budgetCount = savedBudgetCount;
+        for (EPiggyChanges change : changes) {
+            if (change.getOldExpenseCount() != expenseCount || change.getOldBudgetCount() != budgetCount) {
+                return false;
+            }
+            expenseCount = change.getNewExpenseCount();
+            budgetCount = change.getNewBudgetCount();
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code ePiggy} as the new snapshot with a new journal id, and deletes the journal.
+     * The snapshot is replaced atomically, so a crash leaves either the old snapshot and its journal, or the new
+     * snapshot and a journal whose records hold the old journal id.
+     */
+    private void compact(ReadOnlyEPiggy ePiggy) throws IOException {
+        logger.fine("Compacting journal into " + filePath);
+        savedExpenseCount = UNKNOWN_COUNT;
+        String newJournalId = UUID.randomUUID().toString();
+        JsonEPiggyStream.write(ePiggy, filePath, newJournalId);
+        journalId = newJournalId;
+        Files.deleteIfExists(journalFilePath);
+        journalRecordCount = 0;
+        savedExpenseCount = ePiggy.getExpenseList().size();
+        savedBudgetCount = ePiggy.getBudgetList().size();
+    }
+
+    /**
+     * Appends a record of each of {@code changes} which is not empty to the journal, in a single write.
+     * If the write fails, the journal is truncated to its length before the write, so that it does not end with
+     * part of a record, and the next save writes a new snapshot.
+     */
+    private void appendChanges(List<EPiggyChanges> changes) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        int recordCount = 0;
+        for (EPiggyChanges change : changes) {
+            if (change.isEmpty()) {
+                continue;
+            }
+            List<JsonAdaptedExpense> added = change.getAddedExpenses().stream()
+                    .map(JsonAdaptedExpense::new).collect(Collectors.toList());
+            List<JsonAdaptedBudget> budgets = !change.isBudgetsChanged() ? null
+                    : change.getAddedBudgets().stream().map(JsonAdaptedBudget::new).collect(Collectors.toList());
+            JsonAdaptedGoal goal = change.isGoalChanged() ? new JsonAdaptedGoal(change.getGoal()) : null;
+            JsonJournalRecord record = change.isBudgetsChanged()
+                    ? new JsonJournalRecord(journalId, change.getOldExpenseCount(), change.getFrom(),
+                            change.getRemovedCount(), added, change.getOldBudgetCount(), change.getBudgetFrom(),
+                            change.getRemovedBudgetCount(), budgets, goal)
+                    : new JsonJournalRecord(journalId, change.getOldExpenseCount(), change.getFrom(),
+                            change.getRemovedCount(), added, null, null, 0, null, goal);
+            lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+            recordCount++;
+        }
+        if (recordCount == 0) {
+            return;
+        }
+        int expenseCount = changes.get(changes.size() - 1).getNewExpenseCount();
+        int budgetCount = changes.get(changes.size() - 1).getNewBudgetCount();
+
+        savedExpenseCount = UNKNOWN_COUNT;
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (FileChannel channel = FileChannel.open(journalFilePath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long originalSize = channel.size();
+            try {
+                channel.position(originalSize);
+                ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                try {
+                    channel.truncate(originalSize);
+                } catch (IOException truncateException) {
+                    e.addSuppressed(truncateException);
+                }
+                throw e;
+            }
+        }
+        journalRecordCount += recordCount;
+        savedExpenseCount = expenseCount;
+        savedBudgetCount = budgetCount;
+    }
+
+    @Override
+    public void backupEPiggy(ReadOnlyEPiggy ePiggy) throws IOException {
+        snapshotStorage.backupEPiggy(ePiggy);
+    }
+}
@@ -84,7 +84,7 @@ public class JsonAdaptedBudget {
         if (!Cost.isValidCost(remainingAmount)) {
             throw new IllegalValueException(String.format(Cost.MESSAGE_CONSTRAINTS));
         }
-        final Cost modelRemaining = new Cost(Double.parseDouble(remainingAmount));
+        final Cost modelRemaining = new Cost(remainingAmount);
 
         Budget b = new Budget(modelAmount, modelPeriod, modelStartDate);
         b.setRemainingAmount(modelRemaining);
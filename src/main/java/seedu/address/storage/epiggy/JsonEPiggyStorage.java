@@ -6,13 +6,8 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
-import java.util.logging.Logger;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyEPiggy;
 
 //@@author kev-inc
@@ -22,8 +17,6 @@ import seedu.address.model.ReadOnlyEPiggy;
  */
 public class JsonEPiggyStorage implements EPiggyStorage {
 
-    private static final Logger logger = LogsCenter.getLogger(JsonEPiggyStorage.class);
-
     private Path filePath;
     private Path backupFilePath;
 
@@ -46,17 +39,12 @@ public class JsonEPiggyStorage implements EPiggyStorage {
     public Optional<ReadOnlyEPiggy> readEPiggy(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableEPiggy> jsonEPiggy = JsonUtil.readJsonFile(
-                filePath, JsonSerializableEPiggy.class);
-        if (!jsonEPiggy.isPresent()) {
-            return Optional.empty();
-        }
-        try {
-            return Optional.of(jsonEPiggy.get().toModelType());
-        } catch (IllegalValueException e) {
-            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
-            throw new DataConversionException(e);
-        }
+        return JsonEPiggyStream.read(filePath).map(ePiggy -> ePiggy);
+    }
+
+    @Override
+    public Optional<PartialEPiggy> readEPiggyInParts(int recentExpenseCount) throws DataConversionException {
+        return JsonEPiggyStream.readInParts(filePath, total -> total - recentExpenseCount);
     }
 
     @Override
@@ -68,8 +56,7 @@ public class JsonEPiggyStorage implements EPiggyStorage {
     public void saveEPiggy(ReadOnlyEPiggy ePiggy, Path filePath) throws IOException {
         requireNonNull(ePiggy);
         requireNonNull(filePath);
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableEPiggy(ePiggy), filePath);
+        JsonEPiggyStream.write(ePiggy, filePath);
     }
 
     @Override
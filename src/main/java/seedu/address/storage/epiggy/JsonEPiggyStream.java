@@ -0,0 +1,275 @@
+package seedu.address.storage.epiggy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EPiggy;
+import seedu.address.model.ReadOnlyEPiggy;
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+
+/**
+ * Reads and writes an epiggy json file one expense at a time, in the same format as {@code JsonSerializableEPiggy}.
+ * Expenses are written straight from the model, and read in chunks of {@code DECODE_CHUNK_SIZE} expenses which are
+ * converted to the model in parallel, so only one chunk is held in its json friendly form at a time, instead of the
+ * whole file.
+ */
+public class JsonEPiggyStream {
+
+    public static final String MESSAGE_MISSING_FIELDS = "Epiggy's expenses, budgets or goal field is missing!";
+
+    /** The number of expenses which are read before they are converted to the model together. */
+    static final int DECODE_CHUNK_SIZE = 8192;
+
+    private static final String JOURNAL_ID_FIELD = "journalId";
+    private static final String EXPENSES_FIELD = "expenses";
+    private static final String BUDGETS_FIELD = "budgets";
+    private static final String GOAL_FIELD = "goal";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonEPiggyStream.class);
+
+    private JsonEPiggyStream() {} // prevents instantiation
+
+    /**
+     * Returns the epiggy in the given file or {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataConversionException if the file is not in the expected format, or any data constraints are
+     *         violated.
+     */
+    public static Optional<EPiggy> read(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            return Optional.of(readEPiggy(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the epiggy in the given file in two parts, or {@code Optional.empty()} if the file is not found.
+     * The number of older expenses, which are left to be read later, is given by {@code toOlderExpenseCount} from
+     * the number of expenses in the file.
+     * The older expenses are skipped without being converted, so reading the recent part takes time in proportion
+     * to the number of recent expenses, and a quick scan of the rest of the file.
+     *
+     * @throws DataConversionException if the file is not in the expected format, or any data constraints are
+     *         violated.
+     */
+    public static Optional<PartialEPiggy> readInParts(Path filePath, IntUnaryOperator toOlderExpenseCount)
+            throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            int expenseCount;
+            try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+                expenseCount = readFields(parser, 0, 0, expense -> { }).expenseCount;
+            }
+            int olderExpenseCount = Math.max(0, Math.min(expenseCount, toOlderExpenseCount.applyAsInt(expenseCount)));
+
+            EPiggy recentData = new EPiggy();
+            try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+                List<Expense> recentExpenses = new ArrayList<>();
+                readFields(parser, olderExpenseCount, expenseCount, recentExpenses::add)
+                        .loadInto(recentData, recentExpenses);
+            }
+            return Optional.of(new PartialEPiggy(recentData, olderExpenseCount, consumer -> {
+                try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+                    readFields(parser, 0, olderExpenseCount, consumer);
+                }
+            }));
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the id of the journal kept for the epiggy in the given file, or {@code Optional.empty()} if the file
+     * is not found or was written without one.
+     * Only the start of the file is read, as the id is written before the other fields.
+     *
+     * @throws DataConversionException if the file is not in the expected format.
+     */
+    public static Optional<String> readJournalId(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an epiggy object");
+            }
+            if (parser.nextToken() == JsonToken.FIELD_NAME && parser.getCurrentName().equals(JOURNAL_ID_FIELD)
+                    && parser.nextToken() == JsonToken.VALUE_STRING) {
+                return Optional.of(parser.getText());
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warning("Error reading from json file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads an epiggy object from {@code parser}.
+     * The data is loaded at once after all the expenses are read, as in {@code JsonSerializableEPiggy#toModelType()}.
+     */
+    private static EPiggy readEPiggy(JsonParser parser) throws IOException, IllegalValueException {
+        EPiggy ePiggy = new EPiggy();
+        List<Expense> expenses = new ArrayList<>();
+        readFields(parser, 0, Integer.MAX_VALUE, expenses::add).loadInto(ePiggy, expenses);
+        return ePiggy;
+    }
+
+    /**
+     * Reads the fields of an epiggy object from {@code parser}.
+     * The expenses from index {@code from} (inclusive) to {@code to} (exclusive) are converted and passed to
+     * {@code expenseConsumer}, and the other expenses are skipped.
+     */
+    private static EPiggyFields readFields(JsonParser parser, int from, int to, Consumer<Expense> expenseConsumer)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an epiggy object");
+        }
+
+        EPiggyFields fields = new EPiggyFields();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (fieldName.equals(EXPENSES_FIELD) && value == JsonToken.START_ARRAY) {
+                JsonExpenseDecoder decoder = new JsonExpenseDecoder();
+                List<JsonAdaptedExpense> chunk = new ArrayList<>();
+                int index = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (index >= from && index < to) {
+                        chunk.add(parser.readValueAs(JsonAdaptedExpense.class));
+                    } else {
+                        parser.skipChildren();
+                    }
+                    index++;
+                    if (chunk.size() == DECODE_CHUNK_SIZE) {
+                        decoder.decode(chunk, index - chunk.size()).forEach(expenseConsumer);
+                        chunk.clear();
+                    }
+                }
+                decoder.decode(chunk, Math.min(index, to) - chunk.size()).forEach(expenseConsumer);
+                fields.expenseCount = index;
+            } else if (fieldName.equals(BUDGETS_FIELD) && value == JsonToken.START_ARRAY) {
+                fields.budgets = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    fields.budgets.add(parser.readValueAs(JsonAdaptedBudget.class));
+                }
+            } else if (fieldName.equals(GOAL_FIELD) && value == JsonToken.START_OBJECT) {
+                fields.goal = parser.readValueAs(JsonAdaptedGoal.class);
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (fields.expenseCount < 0 || fields.budgets == null || fields.goal == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_FIELDS);
+        }
+        return fields;
+    }
+
+    /**
+     * The number of expenses, the budgets and the goal of an epiggy object.
+     */
+    private static class EPiggyFields {
+        private int expenseCount = -1;
+        private List<JsonAdaptedBudget> budgets;
+        private JsonAdaptedGoal goal;
+
+        /**
+         * Loads {@code expenses}, the budgets and the goal into {@code ePiggy}.
+         */
+        void loadInto(EPiggy ePiggy, List<Expense> expenses) throws IllegalValueException {
+            List<Budget> modelBudgets = new ArrayList<>();
+            for (JsonAdaptedBudget budget : budgets) {
+                modelBudgets.add(budget.toModelType());
+            }
+            ePiggy.loadData(expenses, modelBudgets, goal.toModelType());
+        }
+    }
+
+    /**
+     * Writes {@code ePiggy} to the given file atomically, so that a failed write leaves the file as it was.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyEPiggy ePiggy, Path filePath) throws IOException {
+        write(ePiggy, filePath, null);
+    }
+
+    /**
+     * Writes {@code ePiggy} to the given file atomically, like {@link #write(ReadOnlyEPiggy, Path)}, with the id of
+     * the journal kept for it before the other fields, unless {@code journalId} is null.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    public static void write(ReadOnlyEPiggy ePiggy, Path filePath, String journalId) throws IOException {
+        requireNonNull(ePiggy);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                generator.writeStartObject();
+                if (journalId != null) {
+                    generator.writeStringField(JOURNAL_ID_FIELD, journalId);
+                }
+                generator.writeArrayFieldStart(EXPENSES_FIELD);
+                for (Expense expense : ePiggy.getExpenseList()) {
+                    generator.writeObject(new JsonAdaptedExpense(expense));
+                }
+                generator.writeEndArray();
+                generator.writeObjectField(GOAL_FIELD, new JsonAdaptedGoal(ePiggy.getGoal().get()));
+                generator.writeArrayFieldStart(BUDGETS_FIELD);
+                for (Budget budget : ePiggy.getBudgetList()) {
+                    generator.writeObject(new JsonAdaptedBudget(budget));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.storage.epiggy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.epiggy.Expense;
+
+/**
+ * Converts {@code JsonAdaptedExpense} records into the model's {@code Expense} objects on a fork-join pool.
+ * Validating the fields of a record does not depend on any other record, so the records are split into ranges
+ * which are converted concurrently, and the expenses are returned in the order of their records.
+ */
+class JsonExpenseDecoder {
+
+    /** Ranges with at most this number of records are converted on a single thread. */
+    static final int MIN_RECORDS_PER_TASK = 256;
+    /** The maximum number of invalid records which are described in the message of the thrown exception. */
+    static final int MAX_REPORTED_ERRORS = 10;
+
+    static final String MESSAGE_INVALID_RECORDS = "%d invalid expense record(s) found:";
+    static final String MESSAGE_INVALID_RECORD = "\nExpense at index %d: %s";
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a decoder which converts the records on the common fork-join pool.
+     */
+    JsonExpenseDecoder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    JsonExpenseDecoder(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Converts {@code records}, whose first record is at index {@code firstIndex} of the expense list in the file.
+     *
+     * @throws IllegalValueException if any record violates the data constraints. The message lists the indexes of
+     *         the invalid records in the file with their errors.
+     */
+    List<Expense> decode(List<JsonAdaptedExpense> records, int firstIndex) throws IllegalValueException {
+        requireNonNull(records);
+        Expense[] expenses = new Expense[records.size()];
+        IllegalValueException[] errors = new IllegalValueException[records.size()];
+        DecodeTask task = new DecodeTask(records, expenses, errors, 0, records.size());
+        if (records.size() <= MIN_RECORDS_PER_TASK) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+
+        throwIfAnyInvalid(errors, firstIndex);
+        return Arrays.asList(expenses);
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} describing the records with errors, if there are any.
+     */
+    private static void throwIfAnyInvalid(IllegalValueException[] errors, int firstIndex)
+            throws IllegalValueException {
+        int errorCount = 0;
+        StringBuilder details = new StringBuilder();
+        IllegalValueException firstError = null;
+        for (int i = 0; i < errors.length; i++) {
+            if (errors[i] == null) {
+                continue;
+            }
+            if (errorCount < MAX_REPORTED_ERRORS) {
+                details.append(String.format(MESSAGE_INVALID_RECORD, firstIndex + i, errors[i].getMessage()));
+            }
+            firstError = firstError == null ? errors[i] : firstError;
+            errorCount++;
+        }
+        if (errorCount > 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORDS, errorCount) + details,
+                    firstError);
+        }
+    }
+
+    /**
+     * Converts the records from index {@code from} (inclusive) to {@code to} (exclusive), splitting the range in
+     * half while it is larger than {@code MIN_RECORDS_PER_TASK}.
+     * Each task only writes to its own range of the result arrays, so they need no locking.
+     */
+    private static class DecodeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<JsonAdaptedExpense> records;
+        private final Expense[] expenses;
+        private final IllegalValueException[] errors;
+        private final int from;
+        private final int to;
+
+        DecodeTask(List<JsonAdaptedExpense> records, Expense[] expenses, IllegalValueException[] errors,
+                   int from, int to) {
+            this.records = records;
+            this.expenses = expenses;
+            this.errors = errors;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > MIN_RECORDS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new DecodeTask(records, expenses, errors, from, mid),
+                        new DecodeTask(records, expenses, errors, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                try {
+                    expenses[i] = records.get(i).toModelType();
+                } catch (IllegalValueException e) {
+                    errors[i] = e;
+                }
+            }
+        }
+    }
+}
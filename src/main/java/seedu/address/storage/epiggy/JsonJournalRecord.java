@@ -0,0 +1,140 @@
+package seedu.address.storage.epiggy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.epiggy.Budget;
+import seedu.address.model.epiggy.Expense;
+
+/**
+ * Json friendly record of the changes made to an epiggy by one save, kept as one line of the journal of a
+ * {@code JournalEPiggyStorage}.
+ * The expenses from index {@code from} onwards, {@code removed} of them, are replaced by {@code expenses}.
+ * The budgets from index {@code budgetFrom} onwards, {@code budgetsRemoved} of them, are replaced by {@code budgets}
+ * if present. Records written before budgets were changed by index hold all the budgets instead, with no
+ * {@code budgetFrom}. The goal is replaced if present.
+ * The record holds the id of the journal it was written to, so records left from a journal which was already
+ * compacted into the snapshot can be told apart from the records of the snapshot's own journal.
+ */
+public class JsonJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record does not fit the data it changes!";
+
+    private final String journalId;
+    private final int size;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedExpense> expenses = new ArrayList<>();
+    private final Integer budgetSize;
+    private final Integer budgetFrom;
+    private final int budgetsRemoved;
+    private final List<JsonAdaptedBudget> budgets;
+    private final JsonAdaptedGoal goal;
+
+    /**
+     * Constructs a {@code JsonJournalRecord} with the given changes.
+     *
+     * @param journalId the id of the journal the record is written to, or null if it has none.
+     * @param size the number of expenses before the change.
+     * @param budgetSize the number of budgets before the change, or null if the budgets did not change.
+     * @param budgetFrom the index of the first changed budget, or null if the budgets did not change.
+     * @param budgets the budgets added by the change, or null if the budgets did not change.
+     * @param goal the goal after the change, or null if it did not change.
+     */
+    @JsonCreator
+    public JsonJournalRecord(@JsonProperty("journalId") String journalId,
+                             @JsonProperty("size") int size,
+                             @JsonProperty("from") int from,
+                             @JsonProperty("removed") int removed,
+                             @JsonProperty("expenses") List<JsonAdaptedExpense> expenses,
+                             @JsonProperty("budgetSize") Integer budgetSize,
+                             @JsonProperty("budgetFrom") Integer budgetFrom,
+                             @JsonProperty("budgetsRemoved") int budgetsRemoved,
+                             @JsonProperty("budgets") List<JsonAdaptedBudget> budgets,
+                             @JsonProperty("goal") JsonAdaptedGoal goal) {
+        this.journalId = journalId;
+        this.size = size;
+        this.from = from;
+        this.removed = removed;
+        if (expenses != null) {
+            this.expenses.addAll(expenses);
+        }
+        this.budgetSize = budgetSize;
+        this.budgetFrom = budgetFrom;
+        this.budgetsRemoved = budgetsRemoved;
+        this.budgets = budgets;
+        this.goal = goal;
+    }
+
+    /**
+     * Returns true if this record changes an epiggy with {@code expenseCount} expenses and {@code budgetCount}
+     * budgets.
+     */
+    public boolean fits(int expenseCount, int budgetCount) {
+        boolean isExpensesFit = size == expenseCount && from >= 0 && removed >= 0 && from + removed <= expenseCount;
+        if (budgets == null || budgetFrom == null) {
+            return isExpensesFit;
+        }
+        return isExpensesFit && budgetSize != null && budgetSize == budgetCount && budgetFrom >= 0
+                && budgetsRemoved >= 0 && budgetFrom + budgetsRemoved <= budgetCount;
+    }
+
+    /**
+     * Applies the changes in this record to {@code expenses} and {@code budgets}, where {@code expenses} are the
+     * expenses after the first {@code offset} expenses of an epiggy.
+     * Nothing is changed if the record cannot be applied.
+     *
+     * @throws IllegalValueException if this record does not fit the epiggy, changes any of the first {@code offset}
+     *         expenses, or any data constraints are violated by the added expenses or budgets.
+     */
+    public void applyTo(List<Expense> expenses, int offset, List<Budget> budgets) throws IllegalValueException {
+        if (!fits(offset + expenses.size(), budgets.size()) || from < offset) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        List<Expense> addedExpenses = new ArrayList<>();
+        for (JsonAdaptedExpense expense : this.expenses) {
+            addedExpenses.add(expense.toModelType());
+        }
+        List<Budget> addedBudgets = new ArrayList<>();
+        if (this.budgets != null) {
+            for (JsonAdaptedBudget budget : this.budgets) {
+                addedBudgets.add(budget.toModelType());
+            }
+        }
+
+        List<Expense> changedExpenses = expenses.subList(from - offset, from - offset + removed);
+        changedExpenses.clear();
+        changedExpenses.addAll(addedExpenses);
+        if (this.budgets != null) {
+            List<Budget> changedBudgets = budgetFrom == null ? budgets
+                    : budgets.subList(budgetFrom, budgetFrom + budgetsRemoved);
+            changedBudgets.clear();
+            changedBudgets.addAll(addedBudgets);
+        }
+    }
+
+    /**
+     * Returns the id of the journal this record was written to, or null if it has none.
+     */
+    public String getJournalId() {
+        return journalId;
+    }
+
+    /**
+     * Returns the index of the first expense changed by this record.
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the goal after the change, or null if it did not change.
+     */
+    public JsonAdaptedGoal getGoal() {
+        return goal;
+    }
+}
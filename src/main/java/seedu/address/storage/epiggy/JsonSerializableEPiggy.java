@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.EPiggy;
 import seedu.address.model.ReadOnlyEPiggy;
-import seedu.address.model.epiggy.Allowance;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
 
@@ -56,20 +55,13 @@ public class JsonSerializableEPiggy {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public EPiggy toModelType() throws IllegalValueException {
-        EPiggy ePiggy = new EPiggy();
-        for (JsonAdaptedExpense jsonAdaptedExpense : expenses) {
-            Expense expense = jsonAdaptedExpense.toModelType();
-            if (expense instanceof Allowance) {
-                ePiggy.addAllowance((Allowance) expense);
-            } else {
-                ePiggy.addExpense(expense);
-            }
-        }
-        for (int i = 0; i < budgets.size(); i++) {
-            Budget budget = budgets.get(i).toModelType();
-            ePiggy.addBudget(i, budget);
+        List<Expense> modelExpenses = new JsonExpenseDecoder().decode(expenses, 0);
+        List<Budget> modelBudgets = new ArrayList<>();
+        for (JsonAdaptedBudget jsonAdaptedBudget : budgets) {
+            modelBudgets.add(jsonAdaptedBudget.toModelType());
         }
-        ePiggy.setGoal(goal.toModelType());
+        EPiggy ePiggy = new EPiggy();
+        ePiggy.loadData(modelExpenses, modelBudgets, goal.toModelType());
         return ePiggy;
     }
 }
@@ -0,0 +1,111 @@
+package seedu.address.storage.epiggy;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyEPiggy;
+import seedu.address.model.epiggy.Expense;
+
+/**
+ * An epiggy read from storage in two parts: the most recent expenses with the budgets and the goal, which are read
+ * at once, and the older expenses before them, which are only read when {@link #readOlderExpenses} is called.
+ * This lets the recent data be shown before the whole file has been converted.
+ */
+public class PartialEPiggy {
+
+    public static final String MESSAGE_OLDER_EXPENSES_CHANGED = "The older expenses changed while being read!";
+
+    private final ReadOnlyEPiggy recentData;
+    private final int olderExpenseCount;
+    private final OlderExpenseReader olderExpenseReader;
+
+    /**
+     * Creates a {@code PartialEPiggy} which holds all of {@code ePiggy}, with no older expenses left to read.
+     */
+    public PartialEPiggy(ReadOnlyEPiggy ePiggy) {
+        this(ePiggy, 0, consumer -> { });
+    }
+
+    /**
+     * Creates a {@code PartialEPiggy} whose {@code olderExpenseCount} older expenses come before the expenses of
+     * {@code recentData}, and are read by {@code olderExpenseReader}.
+     */
+    public PartialEPiggy(ReadOnlyEPiggy recentData, int olderExpenseCount, OlderExpenseReader olderExpenseReader) {
+        requireNonNull(recentData);
+        requireNonNull(olderExpenseReader);
+        this.recentData = recentData;
+        this.olderExpenseCount = olderExpenseCount;
+        this.olderExpenseReader = olderExpenseReader;
+    }
+
+    /**
+     * Returns the recent expenses, all the budgets and the goal.
+     * The remaining amounts of the budgets only count the recent expenses.
+     */
+    public ReadOnlyEPiggy getRecentData() {
+        return recentData;
+    }
+
+    /**
+     * Returns a {@code PartialEPiggy} with the same older expenses as this, and {@code recentData} as its recent
+     * part.
+     */
+    public PartialEPiggy withRecentData(ReadOnlyEPiggy recentData) {
+        return new PartialEPiggy(recentData, olderExpenseCount, olderExpenseReader);
+    }
+
+    /**
+     * Returns the number of expenses before the recent expenses which have not been read yet.
+     */
+    public int getOlderExpenseCount() {
+        return olderExpenseCount;
+    }
+
+    /**
+     * Reads the older expenses from the oldest, and passes them to {@code batchConsumer} in lists of at most
+     * {@code batchSize} expenses.
+     *
+     * @throws DataConversionException if the older expenses cannot be read, are not in the expected format, or
+     *         are no longer {@link #getOlderExpenseCount()} expenses.
+     */
+    public void readOlderExpenses(int batchSize, Consumer<List<Expense>> batchConsumer)
+            throws DataConversionException {
+        List<Expense> batch = new ArrayList<>();
+        int[] readCount = {0};
+        try {
+            olderExpenseReader.read(expense -> {
+                batch.add(expense);
+                readCount[0]++;
+                if (batch.size() >= batchSize) {
+                    batchConsumer.accept(new ArrayList<>(batch));
+                    batch.clear();
+                }
+            });
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+        if (readCount[0] != olderExpenseCount) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_OLDER_EXPENSES_CHANGED));
+        }
+        if (!batch.isEmpty()) {
+            batchConsumer.accept(batch);
+        }
+    }
+
+    /**
+     * Reads the older expenses of a {@code PartialEPiggy} from storage.
+     */
+    @FunctionalInterface
+    public interface OlderExpenseReader {
+        /**
+         * Passes each older expense to {@code consumer}, from the oldest.
+         */
+        void read(Consumer<Expense> consumer) throws IOException, IllegalValueException;
+    }
+}
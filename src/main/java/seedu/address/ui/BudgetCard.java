@@ -16,13 +16,17 @@ import seedu.address.model.epiggy.Budget;
 
 /**
  * A UI component that displays information of a {@code Budget}.
+ * A card can be shown for one budget after another, so that a list cell only has to load the card once.
  */
 public class BudgetCard extends UiPart<Region> {
     private static final Logger logger = LogsCenter.getLogger(BudgetCard.class);
 
     private static final String FXML = "BudgetListCard.fxml";
+    /** Only used on the JavaFX application thread, but kept per thread as {@code SimpleDateFormat} is not safe. */
+    private static final ThreadLocal<DateFormat> DATE_FORMAT =
+        ThreadLocal.withInitial(() -> new SimpleDateFormat("dd MMM yyyy (E)"));
 
-    public final Budget budget;
+    private Budget budget;
 
     @FXML
     private Label title;
@@ -43,13 +47,24 @@ public class BudgetCard extends UiPart<Region> {
     @FXML
     private Label notification;
 
-    public BudgetCard(int displayedIndex, Budget budget) {
+    public BudgetCard() {
         super(FXML);
+    }
+
+    public BudgetCard(int displayedIndex, Budget budget) {
+        this();
+        setBudget(displayedIndex, budget);
+    }
+
+    /**
+     * Shows {@code budget} at {@code displayedIndex} in this card, in place of the budget shown before.
+     */
+    public void setBudget(int displayedIndex, Budget budget) {
         this.budget = budget;
         title.setText(displayedIndex + ". " + budget.getStatus() + " Budget");
         amount.setText("Amount: $" + budget.getBudgetedAmount().toString());
 
-        DateFormat dateFormat = new SimpleDateFormat("dd MMM yyyy (E)");
+        DateFormat dateFormat = DATE_FORMAT.get();
         startDate.setText("Start Date: " + dateFormat.format(budget.getStartDate()));
         Calendar calendar = Calendar.getInstance();
         calendar.setTime(budget.getEndDate());
@@ -58,22 +73,23 @@ public class BudgetCard extends UiPart<Region> {
         period.setText("Period of Budget: " + budget.getPeriod().toString() + " days");
 
         status.setText("Status");
-        if (budget.getRemainingAmount().getAmount() >= 0) {
+        if (!budget.getRemainingAmount().isNegative()) {
             remainingAmount.setText("Amount remaining: $" + budget.getRemainingAmount().toString());
         } else {
             remainingAmount.setText("Amount exceeded: $" + budget.getPositiveRemainingAmount().toString());
         }
         remainingDays.setText("Days remaining: " + budget.getRemainingDays().toString() + " days");
 
-        if (budget.getRemainingAmount().getAmount() < 0) {
+        if (budget.getRemainingAmount().isNegative()) {
             notification.setText("You have exceeded your budget!");
             notification.setStyle("-fx-font-weight: bold; -fx-border-color: firebrick;"
                     + "-fx-text-fill: white; -fx-background-color: crimson;");
-        } else if (budget.getRemainingAmount().getAmount() == 0) {
+        } else if (budget.getRemainingAmount().getAmountInCents() == 0) {
             notification.setText("You have $0 left of your budget!");
             notification.setStyle("-fx-font-weight: bold; -fx-border-color: orchid; "
                     + "-fx-text-fill: white; -fx-background-color: mediumorchid;");
-        } else if (budget.getRemainingAmount().getAmount() < (budget.getBudgetedAmount().getAmount() / 5)) {
+        } else if (budget.getRemainingAmount().getAmountInCents() * 5
+                < budget.getBudgetedAmount().getAmountInCents()) {
             notification.setText("You have spent more than 80% of your budget. \n"
                     + "Please control your expenses!");
             notification.setStyle("-fx-font-weight: bold; -fx-border-color: tomato; "
@@ -86,6 +102,10 @@ public class BudgetCard extends UiPart<Region> {
         }
     }
 
+    public Budget getBudget() {
+        return budget;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
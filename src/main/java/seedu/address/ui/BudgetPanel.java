@@ -31,8 +31,11 @@ public class BudgetPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Budget} using a {@code BudgetCard}.
+     * Each cell loads its card once, and shows the budget of each row it is reused for in the same card.
      */
     class BudgetListViewCell extends ListCell<Budget> {
+        private BudgetCard card;
+
         @Override
         protected void updateItem(Budget budget, boolean empty) {
             super.updateItem(budget, empty);
@@ -41,7 +44,11 @@ public class BudgetPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new BudgetCard(getIndex() + 1, budget).getRoot());
+                if (card == null) {
+                    card = new BudgetCard();
+                }
+                card.setBudget(getIndex() + 1, budget);
+                setGraphic(card.getRoot());
             }
         }
     }
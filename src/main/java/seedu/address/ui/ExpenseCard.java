@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -11,17 +13,24 @@ import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.epiggy.Allowance;
 import seedu.address.model.epiggy.Expense;
+import seedu.address.model.tag.Tag;
 
 /**
- * An UI component that displays information of a {@code Person}.
+ * An UI component that displays information of a {@code Expense}.
+ * A card can be shown for one expense after another, so that a list cell only has to load the card once.
  */
 public class ExpenseCard extends UiPart<Region> {
 
     private static final Logger logger = LogsCenter.getLogger(ExpenseCard.class);
 
     private static final String FXML = "ExpenseListCard.fxml";
+    /** The style class which every {@code Label} has. */
+    private static final String TAG_STYLE_CLASS = "label";
     private static final String[] TAG_COLOR_STYLES =
         { "turquoise", "orange", "yellow", "green", "black", "blue", "pink", "grey" };
+    /** Only used on the JavaFX application thread, but kept per thread as {@code SimpleDateFormat} is not safe. */
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT =
+        ThreadLocal.withInitial(() -> new SimpleDateFormat("EEE, MMM d, yyyy"));
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -31,7 +40,9 @@ public class ExpenseCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on EPiggy level 4</a>
      */
 
-    public final Expense expense;
+    private Expense expense;
+    /** The tag labels created so far, which are reused for the tags of the next expense shown. */
+    private final List<Label> tagLabels = new ArrayList<>();
 
     @FXML
     private HBox cardPane;
@@ -48,9 +59,19 @@ public class ExpenseCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public ExpenseCard(Expense expense, int displayedIndex) {
+    public ExpenseCard() {
         super(FXML);
+    }
+
+    public ExpenseCard(Expense expense, int displayedIndex) {
+        this();
+        setExpense(expense, displayedIndex);
+    }
 
+    /**
+     * Shows {@code expense} at {@code displayedIndex} in this card, in place of the expense shown before.
+     */
+    public void setExpense(Expense expense, int displayedIndex) {
         this.expense = expense;
         id.setText(displayedIndex + ". ");
         name.setText(expense.getItem().getName().name);
@@ -59,11 +80,14 @@ public class ExpenseCard extends UiPart<Region> {
         } else {
             cost.setText("Cost: $" + expense.getItem().getCost().toString());
         }
-        SimpleDateFormat formatter = new SimpleDateFormat("EEE, MMM d, yyyy");
-        date.setText(String.format("Added on: %s \n", formatter.format(expense.getDate())));
+        date.setText(String.format("Added on: %s \n", DATE_FORMAT.get().format(expense.getDate())));
         initialiseTags(expense);
     }
 
+    public Expense getExpense() {
+        return expense;
+    }
+
     /**
      * Returns the color style for {@code tagName}'s label.
      */
@@ -74,18 +98,32 @@ public class ExpenseCard extends UiPart<Region> {
     }
 
     /**
-     * Creates the tag labels for {@code person}.
+     * Shows the tag labels for {@code expense}, reusing the labels of the tags shown before.
      */
     private void initialiseTags(Expense expense) {
-        expense.getItem().getTags().forEach(tag -> {
-            Label tagLabel = new Label(tag.tagName);
-            tagLabel.getStyleClass().add(getTagColorStyleFor(tag.tagName));
+        typeTag.getChildren().clear();
+        tags.getChildren().clear();
+        int labelsUsed = 0;
+        for (Tag tag : expense.getItem().getTags()) {
+            Label tagLabel = getTagLabel(labelsUsed++);
+            tagLabel.setText(tag.tagName);
+            tagLabel.getStyleClass().setAll(TAG_STYLE_CLASS, getTagColorStyleFor(tag.tagName));
             if (tag.tagName.equals("Expense") || tag.tagName.equals("Allowance")) {
                 typeTag.getChildren().add(tagLabel);
             } else {
                 tags.getChildren().add(tagLabel);
             }
-        });
+        }
+    }
+
+    /**
+     * Returns the tag label at {@code index} of the labels created so far, creating it if needed.
+     */
+    private Label getTagLabel(int index) {
+        if (index == tagLabels.size()) {
+            tagLabels.add(new Label());
+        }
+        return tagLabels.get(index);
     }
 
     @Override
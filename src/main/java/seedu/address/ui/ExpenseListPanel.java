@@ -55,8 +55,12 @@ public class ExpenseListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Expense} using a {@code ExpenseCard}.
+     * The list view only creates enough cells to fill its height, and reuses them as it is scrolled, so each cell
+     * loads its card once and shows the expense of each row it is reused for in the same card.
      */
     class ExpenseListViewCell extends ListCell<Expense> {
+        private ExpenseCard card;
+
         @Override
         protected void updateItem(Expense expense, boolean empty) {
             super.updateItem(expense, empty);
@@ -65,7 +69,11 @@ public class ExpenseListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ExpenseCard(expense, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ExpenseCard();
+                }
+                card.setExpense(expense, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
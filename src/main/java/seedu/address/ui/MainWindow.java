@@ -144,6 +144,7 @@ public class MainWindow extends UiPart<Stage> {
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getEPiggyFilePath(), logic.getEPiggy());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.addSaveFailureListener(statusBarFooter::showSaveFailure);
 
         CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -0,0 +1,341 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.epiggy.ReportRollups;
+import seedu.address.model.epiggy.ReportRollups.DayTotals;
+import seedu.address.model.epiggy.ReportRollups.Totals;
+import seedu.address.model.epiggy.item.Cost;
+
+/**
+ * The figures shown in a report window: the points of each series of its chart, and the lines of text below it.
+ * A report does not change once computed, so it can be computed on a background thread and then shown on the
+ * JavaFX application thread.
+ */
+//@@author yunjun199321
+public class Report {
+
+    public static final String MESSAGE_NO_RECORDS = "No record found!";
+
+    private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug",
+        "Sep", "Oct", "Nov", "Dec"};
+    private static final String[] MONTHS_LONG = {"January", "February", "March", "April", "May", "June", "July",
+        "August", "September", "October", "November", "December"};
+    private static final int DAYS_IN_LONGEST_MONTH = 31;
+
+    private final DisplayType type;
+    private final String title;
+    private final List<String> categories;
+    private final List<Series> series;
+    private final List<String> summary;
+    private final boolean hasRecords;
+    private final long totalExpensesInCents;
+    private final long totalAllowancesInCents;
+
+    private Report(DisplayType type, String title, List<String> categories, List<Series> series,
+                   List<String> summary, boolean hasRecords, long totalExpensesInCents, long totalAllowancesInCents) {
+        this.type = type;
+        this.title = title;
+        this.categories = Collections.unmodifiableList(categories);
+        this.series = Collections.unmodifiableList(series);
+        this.summary = Collections.unmodifiableList(hasRecords ? summary : Arrays.asList(MESSAGE_NO_RECORDS));
+        this.hasRecords = hasRecords;
+        this.totalExpensesInCents = totalExpensesInCents;
+        this.totalAllowancesInCents = totalAllowancesInCents;
+    }
+
+    /**
+     * Computes the report of {@code type} from {@code rollups}, for the day, month or year of {@code date}.
+     * {@code rollups} is locked while it is read, so that the report is consistent even if it is being updated.
+     */
+    public static Report of(DisplayType type, ReportRollups rollups, LocalDate date) {
+        requireNonNull(type);
+        requireNonNull(rollups);
+        synchronized (rollups) {
+            switch (type) {
+            case DAY:
+                return ofDay(rollups, date);
+            case MONTH:
+                return ofMonth(rollups, date);
+            case YEAR:
+                return ofYear(rollups, date);
+            case ALL:
+            default:
+                return ofAll(rollups);
+            }
+        }
+    }
+
+    /**
+     * Returns the total expenses in each hour of {@code date}.
+     */
+    private static Report ofDay(ReportRollups rollups, LocalDate date) {
+        DayTotals day = rollups.getDay(date);
+        List<String> hours = new ArrayList<>();
+        double[] expenses = new double[ReportRollups.HOURS_PER_DAY];
+        for (int i = 0; i < expenses.length; i++) {
+            hours.add(String.valueOf(i));
+            expenses[i] = toDollars(day.getExpensesInCentsInHour(i));
+        }
+
+        List<String> summary = Arrays.asList(
+                "The minimum amount of expense for today: S$" + Cost.fromCents(day.getMinExpenseInCents()),
+                "The maximum amount of expense for today: S$" + Cost.fromCents(day.getMaxExpenseInCents()),
+                "The total amount of expense for today: S$" + Cost.fromCents(day.getExpensesInCents()));
+        List<Series> series = day.hasExpenses()
+                ? Collections.singletonList(new Series("Expense", expenses))
+                : Collections.singletonList(new Series("Expense", new double[0]));
+        return new Report(DisplayType.DAY, "Report for date: " + date, hours, series, summary,
+                day.hasExpenses(), day.getExpensesInCents(), day.getAllowancesInCents());
+    }
+
+    /**
+     * Returns the total expenses and allowances on each day of the month of {@code date}.
+     */
+    private static Report ofMonth(ReportRollups rollups, LocalDate date) {
+        YearMonth yearMonth = YearMonth.from(date);
+        Totals month = rollups.getMonth(yearMonth);
+        List<String> days = new ArrayList<>();
+        long[] expenses = new long[DAYS_IN_LONGEST_MONTH];
+        long[] allowances = new long[DAYS_IN_LONGEST_MONTH];
+        for (int i = 0; i < DAYS_IN_LONGEST_MONTH; i++) {
+            // index 0 is the first day of the month
+            days.add(String.valueOf(i + 1));
+            if (i < yearMonth.lengthOfMonth()) {
+                DayTotals day = rollups.getDay(yearMonth.atDay(i + 1));
+                expenses[i] = day.getExpensesInCents();
+                allowances[i] = day.getAllowancesInCents();
+            }
+        }
+
+        int dayWithMinExpense = indexOfMin(expenses) + 1;
+        int dayWithMaxExpense = indexOfMax(expenses) + 1;
+        long minExpense = month.hasExpenses() ? expenses[dayWithMinExpense - 1] : 0;
+        long maxExpense = month.hasExpenses() ? expenses[dayWithMaxExpense - 1] : 0;
+        String monthName = MONTHS[yearMonth.getMonthValue() - 1];
+        List<String> summary = Arrays.asList(
+                "The total amount of expense on this month: S$" + Cost.fromCents(month.getExpensesInCents()),
+                "The total amount of allowance on this month: S$" + Cost.fromCents(month.getAllowancesInCents()),
+                "The total amount of Saving on this month: S$"
+                        + Cost.fromCents(month.getAllowancesInCents() - month.getExpensesInCents()),
+                "The highest expense record is S$" + Cost.fromCents(maxExpense)
+                        + " at " + dayWithMaxExpense + " " + monthName + " " + date.getYear(),
+                "The lowest expense record is S$" + Cost.fromCents(minExpense)
+                        + " at " + dayWithMinExpense + " " + monthName + " " + date.getYear());
+        String title = "Report for month: " + MONTHS_LONG[yearMonth.getMonthValue() - 1] + " " + date.getYear();
+        return new Report(DisplayType.MONTH, title, days,
+                Arrays.asList(new Series("Expense", toDollars(expenses)),
+                        new Series("Allowance", toDollars(allowances))),
+                summary, month.hasExpenses() || month.hasAllowances(),
+                month.getExpensesInCents(), month.getAllowancesInCents());
+    }
+
+    /**
+     * Returns the total budgets, expenses and allowances in each month of the year of {@code date}.
+     */
+    private static Report ofYear(ReportRollups rollups, LocalDate date) {
+        Totals year = rollups.getYear(date.getYear());
+        long[] budgets = new long[MONTHS.length];
+        long[] expenses = new long[MONTHS.length];
+        long[] allowances = new long[MONTHS.length];
+        for (int i = 0; i < MONTHS.length; i++) {
+            Totals month = rollups.getMonth(YearMonth.of(date.getYear(), i + 1));
+            budgets[i] = month.getBudgetsInCents();
+            expenses[i] = month.getExpensesInCents();
+            allowances[i] = month.getAllowancesInCents();
+        }
+
+        int monthWithMinExpense = indexOfMin(expenses);
+        int monthWithMaxExpense = indexOfMax(expenses);
+        long minExpense = year.hasExpenses() ? expenses[monthWithMinExpense] : 0;
+        long maxExpense = year.hasExpenses() ? expenses[monthWithMaxExpense] : 0;
+        List<String> summary = Arrays.asList(
+                "The total amount of expense on this year: S$" + Cost.fromCents(year.getExpensesInCents()),
+                "The total amount of allowance on this year: S$" + Cost.fromCents(year.getAllowancesInCents()),
+                "The total amount of budget on this year: S$" + Cost.fromCents(year.getBudgetsInCents()),
+                "The total amount of saving on this year: S$"
+                        + Cost.fromCents(year.getAllowancesInCents() - year.getExpensesInCents()),
+                MONTHS_LONG[monthWithMaxExpense] + " is the most consumed month in " + date.getYear()
+                        + ". The highest expense record is S$" + Cost.fromCents(maxExpense),
+                MONTHS_LONG[monthWithMinExpense] + " is the least consumed month in " + date.getYear()
+                        + ". The lowest expense record is S$" + Cost.fromCents(minExpense));
+        return new Report(DisplayType.YEAR, "Report for year: " + date.getYear(), Arrays.asList(MONTHS),
+                Arrays.asList(new Series("Budget", toDollars(budgets)),
+                        new Series("Expense", toDollars(expenses)),
+                        new Series("Allowance", toDollars(allowances))),
+                summary, year.hasExpenses() || year.hasAllowances() || year.hasBudgets(),
+                year.getExpensesInCents(), year.getAllowancesInCents());
+    }
+
+    /**
+     * Returns the total allowances, expenses and budgets in each year with any of them.
+     */
+    private static Report ofAll(ReportRollups rollups) {
+        Map<Integer, Totals> years = rollups.getYears();
+        List<String> yearNames = new ArrayList<>();
+        long[] allowances = new long[years.size()];
+        long[] expenses = new long[years.size()];
+        long[] budgets = new long[years.size()];
+        long totalAllowance = 0;
+        long totalExpense = 0;
+        long totalBudget = 0;
+        long maxExpense = 0;
+        String yearWithMaxExpense = "";
+        boolean hasExpenses = false;
+        int i = 0;
+        for (Map.Entry<Integer, Totals> entry : years.entrySet()) {
+            Totals year = entry.getValue();
+            yearNames.add(entry.getKey().toString());
+            allowances[i] = year.getAllowancesInCents();
+            expenses[i] = year.getExpensesInCents();
+            budgets[i] = year.getBudgetsInCents();
+            totalAllowance += allowances[i];
+            totalExpense += expenses[i];
+            totalBudget += budgets[i];
+            hasExpenses |= year.hasExpenses();
+            if (expenses[i] > maxExpense) {
+                maxExpense = expenses[i];
+                yearWithMaxExpense = yearNames.get(i);
+            }
+            i++;
+        }
+
+        List<String> summary = new ArrayList<>(Arrays.asList(
+                "The total amount of expense: S$" + Cost.fromCents(totalExpense),
+                "The total amount of budget: S$" + Cost.fromCents(totalBudget),
+                "The total amount of allowance: S$" + Cost.fromCents(totalAllowance),
+                "The total amount of saving: S$" + Cost.fromCents(totalAllowance - totalExpense)));
+        if (hasExpenses) {
+            summary.add(yearWithMaxExpense + " is the most consumed year. "
+                    + "The highest expense record is S$" + Cost.fromCents(maxExpense));
+        }
+        return new Report(DisplayType.ALL, "Completed Summary", yearNames,
+                Arrays.asList(new Series("Allowance", toDollars(allowances)),
+                        new Series("Expense", toDollars(expenses)),
+                        new Series("Budget", toDollars(budgets))),
+                summary, !years.isEmpty(), totalExpense, totalAllowance);
+    }
+
+    /**
+     * Returns the index of the first smallest value in {@code values}.
+     */
+    private static int indexOfMin(long[] values) {
+        int index = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[index]) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of the first largest value in {@code values}.
+     */
+    private static int indexOfMax(long[] values) {
+        int index = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[index]) {
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns {@code amountsInCents} in dollars, to be plotted on a chart.
+     */
+    private static double[] toDollars(long[] amountsInCents) {
+        double[] amounts = new double[amountsInCents.length];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = toDollars(amountsInCents[i]);
+        }
+        return amounts;
+    }
+
+    /**
+     * Returns {@code amountInCents} in dollars, to be plotted on a chart.
+     */
+    private static double toDollars(long amountInCents) {
+        return Cost.fromCents(amountInCents).getAmount();
+    }
+
+    public DisplayType getType() {
+        return type;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Returns the labels of the points along the x axis of the chart, which is the hour, day of the month, month or
+     * year of each point.
+     */
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public List<Series> getSeries() {
+        return series;
+    }
+
+    /**
+     * Returns the lines of text shown below the chart, or {@code MESSAGE_NO_RECORDS} if the report has no records.
+     */
+    public List<String> getSummary() {
+        return summary;
+    }
+
+    public boolean hasRecords() {
+        return hasRecords;
+    }
+
+    public long getTotalExpensesInCents() {
+        return totalExpensesInCents;
+    }
+
+    public long getTotalAllowancesInCents() {
+        return totalAllowancesInCents;
+    }
+
+    /**
+     * The period which a report covers.
+     */
+    public enum DisplayType {
+        MONTH, DAY, YEAR, ALL
+    }
+
+    /**
+     * A named series of values in dollars, with one value for each category of the report.
+     */
+    public static class Series {
+        private final String name;
+        private final double[] values;
+
+        Series(String name, double[] values) {
+            this.name = name;
+            this.values = values;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int size() {
+            return values.length;
+        }
+
+        public double getValue(int index) {
+            return values[index];
+        }
+    }
+}
@@ -66,9 +66,9 @@ public class SavingsPanel extends UiPart<Region> {
 
             Cost goalAmount = goal.getValue().getAmount();
             Cost savingsAmount = onSavingsChange.get().getValue();
-            Cost diff = new Cost(goalAmount.getAmount() - savingsAmount.getAmount());
+            Cost diff = goalAmount.deduct(savingsAmount);
 
-            if (diff.getAmount() > 0) {
+            if (diff.getAmountInCents() > 0) {
                 amountDifferenceTitle.setVisible(true);
                 amountDifference.setText("$" + diff);
             } else {
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
@@ -18,6 +19,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SYNC_STATUS_SAVE_FAILED = "Could not save data to file: %s";
 
     /**
      * Used to generate time stamps.
@@ -67,4 +69,11 @@ public class StatusBarFooter extends UiPart<Region> {
         syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 
+    /**
+     * Shows that saving the data failed with {@code exception}, until the data is updated again.
+     */
+    public void showSaveFailure(IOException exception) {
+        syncStatus.setText(String.format(SYNC_STATUS_SAVE_FAILED, exception.getMessage()));
+    }
+
 }
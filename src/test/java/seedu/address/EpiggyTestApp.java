@@ -75,6 +75,7 @@ public class EpiggyTestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public EPiggy readStorageEPiggy() {
+        saver.flush();
         try {
             return new EPiggy(storage.readEPiggy().get());
         } catch (DataConversionException dce) {
@@ -73,6 +73,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the address book data stored inside the storage file.
      */
     public EPiggy readStorageEPiggy() {
+        saver.flush();
         try {
             return new EPiggy(storage.readEPiggy().get());
         } catch (DataConversionException dce) {
@@ -0,0 +1,61 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getIndex_lowestValueOfEachBucket_returnsThatBucket() {
+        int maxIndex = LatencyHistogram.getIndex(LatencyHistogram.MAX_TRACKABLE_NANOS);
+        for (int i = 0; i <= maxIndex; i++) {
+            long lowest = LatencyHistogram.getLowestValue(i);
+            assertEquals(i, LatencyHistogram.getIndex(lowest));
+            assertEquals(i, LatencyHistogram.getIndex(LatencyHistogram.getLowestValue(i + 1) - 1));
+        }
+    }
+
+    @Test
+    public void getValueAtPercentile_noLatencyRecorded_returnsZero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getValueAtPercentile_uniformLatencies_withinBucketError() {
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000000, histogram.getMax());
+        assertWithinError(500000, histogram.getValueAtPercentile(50));
+        assertWithinError(990000, histogram.getValueAtPercentile(99));
+        assertEquals(1000000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_smallAndOutOfRangeLatencies_recorded() {
+        histogram.record(-5);
+        histogram.record(7);
+        histogram.record(LatencyHistogram.MAX_TRACKABLE_NANOS * 2);
+        assertEquals(3, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        assertEquals(7, histogram.getValueAtPercentile(50));
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS * 2, histogram.getMax());
+        assertTrue(histogram.getValueAtPercentile(100) >= LatencyHistogram.MAX_TRACKABLE_NANOS / 2);
+    }
+
+    /**
+     * Asserts that {@code actual} is within the width of a bucket of {@code expected}.
+     */
+    private static void assertWithinError(long expected, long actual) {
+        long allowedError = expected >> LatencyHistogram.SUB_BUCKET_BITS;
+        assertTrue("expected " + expected + " but was " + actual, Math.abs(expected - actual) <= allowedError);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchedObservableListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final BatchedObservableList<String> list = new BatchedObservableList<>();
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        list.setAll(Arrays.asList("b", "d", "a", "c"));
+        list.addListener((ListChangeListener<String>) change -> changes.add(change));
+    }
+
+    @Test
+    public void endBatch_changesInBatch_listenersNotifiedOnce() {
+        list.beginBatch();
+        list.add("e");
+        list.remove(0);
+        list.set(0, "f");
+        assertTrue(changes.isEmpty());
+
+        list.endBatch();
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList("f", "a", "c", "e"), list);
+    }
+
+    @Test
+    public void endBatch_nestedBatch_listenersNotifiedAtOutermostBatch() {
+        list.beginBatch();
+        list.beginBatch();
+        list.add("e");
+        list.endBatch();
+        assertTrue(list.isInBatch());
+        assertTrue(changes.isEmpty());
+
+        list.endBatch();
+        assertFalse(list.isInBatch());
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        list.endBatch();
+    }
+
+    @Test
+    public void removeRange_elementsRemovedAsSingleChange() {
+        list.remove(1, 3);
+        assertEquals(Arrays.asList("b", "c"), list);
+
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+        assertEquals(Arrays.asList("d", "a"), change.getRemoved());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void addAll_atIndex_elementsAddedAsSingleChange() {
+        list.addAll(1, Arrays.asList("x", "y"));
+        assertEquals(Arrays.asList("b", "x", "y", "d", "a", "c"), list);
+
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasAdded());
+        assertEquals(Arrays.asList("x", "y"), change.getAddedSubList());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void setAll_emptyList_listCleared() {
+        list.setAll(Collections.emptyList());
+        assertTrue(list.isEmpty());
+        assertEquals(1, changes.size());
+    }
+}
@@ -1,14 +1,27 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +34,44 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_contentReplaced() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertArrayEquals(new String[] {"data.json"}, testFolder.getRoot().list());
+    }
+
+    @Test
+    public void writeToFileAtomically_writerThrows_fileUnchanged() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+
+        Assert.assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partly written".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertEquals("old content", FileUtil.readFromFile(file));
+        assertArrayEquals(new String[] {"data.json"}, testFolder.getRoot().list());
+    }
+
+    @Test
+    public void mapFile_existingFile_contentMapped() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("data.json");
+        FileUtil.writeToFile(file, "mapped content");
+
+        ByteBuffer buffer = FileUtil.mapFile(file);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertEquals("mapped content", new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void mapFile_missingFile_throwsNoSuchFileException() {
+        Path file = testFolder.getRoot().toPath().resolve("none.json");
+        Assert.assertThrows(NoSuchFileException.class, () -> FileUtil.mapFile(file));
+    }
+
 }
@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedFileInputStreamTest {
+
+    private static final int WINDOW_SIZE = 4;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path writeFile(byte[] content) throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("data.bin");
+        Files.write(file, content);
+        return file;
+    }
+
+    @Test
+    public void read_acrossWindows_allBytesRead() throws Exception {
+        byte[] content = {0, 1, 2, 3, 4, 5, 6, 7, 8, (byte) 0xFF};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = new MappedFileInputStream(writeFile(content), WINDOW_SIZE)) {
+            out.write(in.read());
+            byte[] buffer = new byte[3];
+            for (int count = in.read(buffer); count != -1; count = in.read(buffer)) {
+                out.write(buffer, 0, count);
+            }
+        }
+        assertArrayEquals(content, out.toByteArray());
+    }
+
+    @Test
+    public void read_emptyFile_endOfStream() throws Exception {
+        try (InputStream in = new MappedFileInputStream(writeFile(new byte[0]), WINDOW_SIZE)) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[1]));
+        }
+    }
+
+    @Test
+    public void skip_acrossWindows_positionMoved() throws Exception {
+        try (InputStream in = new MappedFileInputStream(writeFile(new byte[] {0, 1, 2, 3, 4, 5, 6}), WINDOW_SIZE)) {
+            assertEquals(6, in.skip(6));
+            assertEquals(6, in.read());
+            assertEquals(0, in.skip(1));
+        }
+    }
+}
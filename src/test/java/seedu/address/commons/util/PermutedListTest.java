@@ -0,0 +1,203 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PermutedListTest {
+    private static final PermutedList.Ordering<String> BY_FIRST_LETTER = new FirstLetterOrdering();
+
+    private final ObservableList<String> source = FXCollections.observableArrayList("b", "d", "a", "c");
+    private final PermutedList<String> permutedList = new PermutedList<>(source);
+    private final List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        permutedList.addListener((ListChangeListener<String>) change -> changes.add(change));
+    }
+
+    @Test
+    public void setOrdering_ordering_elementsPermuted() {
+        permutedList.setOrdering(BY_FIRST_LETTER);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), permutedList);
+        assertEquals(2, permutedList.getSourceIndex(0));
+        assertEquals(3, permutedList.getViewIndex(1));
+
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasPermutated());
+        assertEquals(1, change.getPermutation(0));
+        assertEquals(3, change.getPermutation(1));
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void setOrdering_null_sourceOrderRestored() {
+        permutedList.setOrdering(BY_FIRST_LETTER);
+        permutedList.setOrdering(null);
+        assertEquals(source, permutedList);
+        assertEquals(1, permutedList.getSourceIndex(1));
+    }
+
+    @Test
+    public void reverse_withOrdering_orderReversed() {
+        permutedList.reverse();
+        assertEquals(Arrays.asList("c", "a", "d", "b"), permutedList);
+
+        permutedList.setOrdering(BY_FIRST_LETTER);
+        permutedList.reverse();
+        assertEquals(Arrays.asList("d", "c", "b", "a"), permutedList);
+        assertEquals(1, permutedList.getSourceIndex(0));
+    }
+
+    @Test
+    public void sourceChanged_elementAdded_insertedInOrder() {
+        permutedList.setOrdering(BY_FIRST_LETTER);
+        changes.clear();
+
+        source.add("ca");
+        assertEquals(Arrays.asList("a", "b", "c", "ca", "d"), permutedList);
+        assertEquals(4, permutedList.getSourceIndex(3));
+        assertEquals(3, permutedList.getViewIndex(4));
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasAdded());
+        assertFalse(change.wasRemoved());
+        assertEquals(3, change.getFrom());
+        assertEquals(Arrays.asList("ca"), change.getAddedSubList());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void sourceChanged_elementRemoved_removedAtViewIndex() {
+        permutedList.setOrdering(BY_FIRST_LETTER);
+        changes.clear();
+
+        source.remove("b");
+        assertEquals(Arrays.asList("a", "c", "d"), permutedList);
+        assertEquals(1, permutedList.getSourceIndex(0));
+        assertEquals(0, permutedList.getViewIndex(1));
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasRemoved());
+        assertFalse(change.wasAdded());
+        assertEquals(1, change.getFrom());
+        assertEquals(Arrays.asList("b"), change.getRemoved());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void sourceChanged_equalElementsAdded_sourceOrderKept() {
+        permutedList.setOrdering(BY_FIRST_LETTER);
+        source.add(0, "bx");
+        source.add("by");
+        assertEquals(Arrays.asList("a", "bx", "b", "by", "c", "d"), permutedList);
+
+        permutedList.reverse();
+        source.add(2, "bz");
+        assertEquals(Arrays.asList("d", "c", "by", "bz", "b", "bx", "a"), permutedList);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsOrderingAgain() {
+        Random random = new Random(2103);
+        permutedList.setOrdering(BY_FIRST_LETTER);
+        boolean isReversed = false;
+        for (int i = 0; i < 200; i++) {
+            int index = random.nextInt(source.size() + 1);
+            switch (random.nextInt(4)) {
+            case 0:
+                source.add(index, randomWord(random));
+                break;
+            case 1:
+                source.addAll(index, Arrays.asList(randomWord(random), randomWord(random), randomWord(random)));
+                break;
+            case 2:
+                if (index < source.size()) {
+                    source.set(index, randomWord(random));
+                }
+                break;
+            default:
+                source.subList(index, Math.min(source.size(), index + random.nextInt(3))).clear();
+                break;
+            }
+            if (i == 100) {
+                permutedList.reverse();
+                isReversed = true;
+            }
+            assertOrderedBy(BY_FIRST_LETTER, isReversed);
+        }
+    }
+
+    @Test
+    public void sourceChanged_sourceOrder_changePassedThrough() {
+        source.subList(1, 3).clear();
+        assertEquals(Arrays.asList("b", "c"), permutedList);
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+        assertEquals(Arrays.asList("d", "a"), change.getRemoved());
+        assertFalse(change.wasAdded());
+
+        FXCollections.sort(source, Comparator.reverseOrder());
+        assertEquals(Arrays.asList("c", "b"), permutedList);
+        assertTrue(changes.get(1).next());
+        assertTrue(changes.get(1).wasPermutated());
+    }
+
+    private static String randomWord(Random random) {
+        return (char) ('a' + random.nextInt(4)) + Integer.toString(random.nextInt(10));
+    }
+
+    /**
+     * Asserts that {@code permutedList} holds the elements of {@code source} in the order of {@code ordering}, with
+     * equal elements in their order in {@code source}, and all reversed if {@code isReversed}.
+     */
+    private void assertOrderedBy(PermutedList.Ordering<String> ordering, boolean isReversed) {
+        List<String> expected = Arrays.stream(ordering.sortedOrder(source)).mapToObj(source::get)
+                .collect(Collectors.toList());
+        if (isReversed) {
+            Collections.reverse(expected);
+        }
+        assertEquals(expected, permutedList);
+        for (int i = 0; i < permutedList.size(); i++) {
+            assertEquals(permutedList.get(i), source.get(permutedList.getSourceIndex(i)));
+            assertEquals(i, permutedList.getViewIndex(permutedList.getSourceIndex(i)));
+        }
+    }
+
+    /**
+     * Orders words by their first letter only, so that words with the same first letter are equal in the order.
+     */
+    private static class FirstLetterOrdering implements PermutedList.Ordering<String> {
+        @Override
+        public int compare(String first, String second) {
+            return Character.compare(first.charAt(0), second.charAt(0));
+        }
+
+        @Override
+        public int[] sortedOrder(List<? extends String> elements) {
+            return IntStream.range(0, elements.size()).boxed()
+                    .sorted((first, second) -> compare(elements.get(first), elements.get(second)))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+}
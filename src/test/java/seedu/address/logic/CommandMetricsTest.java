@@ -0,0 +1,48 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandMetrics.Stage;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.StatsCommand;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void getCommandType() {
+        assertEquals("History", CommandMetrics.getCommandType(new HistoryCommand()));
+        assertEquals("Stats", CommandMetrics.getCommandType(new StatsCommand(metrics)));
+    }
+
+    @Test
+    public void getSummary_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, metrics.getSummary());
+    }
+
+    @Test
+    public void getSummary_commandsRecorded_lineForEachType() {
+        metrics.record("Undo", Stage.TOTAL, 2000000);
+        metrics.record("History", Stage.PARSE, 1000000);
+        metrics.record("History", Stage.TOTAL, 3000000);
+        metrics.record("History", Stage.TOTAL, 3000000);
+
+        assertEquals(Arrays.asList("History", "Undo"), metrics.getCommandTypes());
+        assertEquals(2, metrics.getHistogram("History", Stage.TOTAL).getCount());
+        assertEquals(0, metrics.getHistogram("History", Stage.PERSIST).getCount());
+        assertEquals(0, metrics.getHistogram("Clear", Stage.TOTAL).getCount());
+
+        String[] lines = metrics.getSummary().split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(CommandMetrics.MESSAGE_HEADER, lines[0]);
+        assertTrue(lines[1].startsWith("History (2 runs) | parse "));
+        assertTrue(lines[1].endsWith("/ 3.00"));
+        assertTrue(lines[2].startsWith("Undo (1 runs) | parse 0.00 / 0.00 / 0.00"));
+    }
+}
@@ -16,6 +16,9 @@ import static seedu.address.logic.commands.HistoryCommand.MESSAGE_NO_HISTORY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -23,6 +26,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.CommandMetrics.Stage;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
@@ -31,14 +36,18 @@ import seedu.address.logic.commands.epiggy.AddExpenseCommand;
 import seedu.address.logic.commands.epiggy.DeleteExpenseCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.EPiggy;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyEPiggy;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.epiggy.Expense;
+import seedu.address.storage.AsyncEPiggySaver;
 import seedu.address.storage.JsonEPiggyStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ProgressiveEPiggyLoader;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.epiggy.PartialEPiggy;
 import seedu.address.testutil.epiggy.ExpensesBuilder;
 
 
@@ -83,6 +92,19 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_validCommand_latenciesRecorded() throws Exception {
+        CommandMetrics metrics = logic.getCommandMetrics();
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_ALIAS);
+
+        assertEquals(Collections.singletonList("List"), metrics.getCommandTypes());
+        assertEquals(2, metrics.getHistogram("List", Stage.PARSE).getCount());
+        assertEquals(2, metrics.getHistogram("List", Stage.EXECUTE).getCount());
+        assertEquals(0, metrics.getHistogram("List", Stage.PERSIST).getCount());
+        assertEquals(2, metrics.getHistogram("List", Stage.TOTAL).getCount());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
         // Setup LogicManager with JsonEPiggyIoExceptionThrowingStub
@@ -108,6 +130,58 @@ public class LogicManagerTest {
 
     }
 
+    @Test
+    public void execute_backgroundSaveThrowsIoException_failureListenerNotified() throws Exception {
+        JsonEPiggyStorage addressBookStorage =
+                new JsonEPiggyIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AsyncEPiggySaver saver = new AsyncEPiggySaver(storage, Runnable::run);
+        logic = new LogicManager(model, storage, saver);
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        logic.addSaveFailureListener(failures::add);
+
+        // the command succeeds, and the failure is reported once the save is done
+        String addExpenseCommand = AddExpenseCommand.COMMAND_WORD + NAME_DESC_SECONDEXTRA + AMOUNT_DESC_SECONDEXTRA
+                + TAG_DESC_SECONDEXTRA + DATE_DESC_SECONDEXTRA;
+        logic.execute(addExpenseCommand);
+        saver.flush();
+        assertEquals(Collections.singletonList(DUMMY_IO_EXCEPTION), failures);
+    }
+
+    @Test
+    public void execute_backgroundSave_changesSaved() throws Exception {
+        JsonEPiggyStorage addressBookStorage = new JsonEPiggyStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AsyncEPiggySaver saver = new AsyncEPiggySaver(storage, Runnable::run);
+        logic = new LogicManager(model, storage, saver);
+
+        String addExpenseCommand = AddExpenseCommand.COMMAND_WORD + NAME_DESC_SECONDEXTRA + AMOUNT_DESC_SECONDEXTRA
+                + TAG_DESC_SECONDEXTRA + DATE_DESC_SECONDEXTRA;
+        logic.execute(addExpenseCommand);
+        logic.execute(addExpenseCommand);
+        saver.flush();
+        assertEquals(model.getEPiggy().getExpenseList(), addressBookStorage.readEPiggy().get().getExpenseList());
+    }
+
+    @Test
+    public void execute_olderExpensesCannotBeLoaded_onlyCommandsNeedingFullDataFail() throws Exception {
+        JsonEPiggyStorage addressBookStorage = new JsonEPiggyStorage(temporaryFolder.newFile().toPath());
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        PartialEPiggy data = new PartialEPiggy(new EPiggy(), 1, consumer -> {
+            throw DUMMY_IO_EXCEPTION;
+        });
+        ProgressiveEPiggyLoader loader = new ProgressiveEPiggyLoader(model, data, Runnable::run);
+        loader.start();
+        logic = new LogicManager(model, storage, null, loader);
+
+        assertEquals(MESSAGE_NO_HISTORY, logic.execute(HistoryCommand.COMMAND_WORD).getFeedbackToUser());
+        String expectedMessage = LogicManager.LOAD_ERROR_MESSAGE + new DataConversionException(DUMMY_IO_EXCEPTION);
+        assertCommandException(ListCommand.COMMAND_WORD, expectedMessage);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -8,8 +8,8 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -30,6 +30,7 @@ import seedu.address.model.epiggy.Allowance;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
 import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
@@ -105,7 +106,7 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
         @Override
-        public void sortExpenses(Comparator<Expense> comparator) {
+        public void sortExpenses(ExpenseSort sort) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -164,6 +165,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addOlderExpenses(int index, List<Expense> olderExpenses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Expense> selectedExpenseProperty() {
             throw new AssertionError("This method should not be called.");
@@ -12,6 +12,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -20,13 +21,12 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.epiggy.EditBudgetCommand;
 import seedu.address.logic.commands.epiggy.EditExpenseCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.ArgumentMultimap;
-import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.model.EPiggy;
 import seedu.address.model.Model;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
 import seedu.address.model.epiggy.ExpenseContainsKeywordsPredicate;
+import seedu.address.model.epiggy.FindQuery;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.epiggy.EditBudgetDetailsBuilder;
 import seedu.address.testutil.epiggy.EditExpenseDescriptorBuilder;
@@ -212,9 +212,8 @@ public class CommandTestUtil {
 
         Expense expense = model.getFilteredExpenseList().get(targetIndex.getZeroBased());
         String[] splitName = expense.getItem().getName().name.split("\\s+");
-        final ArgumentMultimap keywordsMap = ArgumentTokenizer.tokenize(" n/"
-                + splitName[0], PREFIX_NAME);
-        model.updateFilteredExpensesList(new ExpenseContainsKeywordsPredicate(keywordsMap));
+        model.updateFilteredExpensesList(new ExpenseContainsKeywordsPredicate(
+                new FindQuery(Collections.singletonList(splitName[0]), Collections.emptyList())));
 
         assertEquals(1, model.getFilteredExpenseList().size());
     }
@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.CommandMetrics.Stage;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private CommandMetrics metrics = new CommandMetrics();
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute() {
+        assertCommandSuccess(new StatsCommand(metrics), model, history, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+
+        metrics.record("List", Stage.TOTAL, 1000000);
+        assertCommandSuccess(new StatsCommand(metrics), model, history, metrics.getSummary(), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand statsCommand = new StatsCommand(metrics);
+        assertTrue(statsCommand.equals(statsCommand));
+        assertTrue(statsCommand.equals(new StatsCommand(metrics)));
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandMetrics())));
+        assertFalse(statsCommand.equals(null));
+    }
+}
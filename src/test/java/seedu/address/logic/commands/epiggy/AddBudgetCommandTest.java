@@ -13,7 +13,6 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.function.Predicate;
@@ -39,6 +38,7 @@ import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
 import seedu.address.model.epiggy.Goal;
 
+import seedu.address.model.epiggy.comparators.ExpenseSort;
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalBudgets;
@@ -240,7 +240,7 @@ public class AddBudgetCommandTest {
         }
 
         @Override
-        public void sortExpenses(Comparator<Expense> comparator) {
+        public void sortExpenses(ExpenseSort sort) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -294,6 +294,11 @@ public class AddBudgetCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addOlderExpenses(int index, List<Expense> olderExpenses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Expense> selectedExpenseProperty() {
             throw new AssertionError("This method should not be called.");
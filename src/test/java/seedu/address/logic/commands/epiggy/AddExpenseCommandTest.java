@@ -6,8 +6,8 @@ import static org.junit.Assert.assertEquals;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -28,6 +28,7 @@ import seedu.address.model.epiggy.Allowance;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
 import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.epiggy.ExpensesBuilder;
@@ -68,7 +69,7 @@ public class AddExpenseCommandTest {
         }
 
         @Override
-        public void sortExpenses(Comparator<Expense> comparator) {
+        public void sortExpenses(ExpenseSort sort) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -122,6 +123,11 @@ public class AddExpenseCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addOlderExpenses(int index, List<Expense> olderExpenses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Expense> selectedExpenseProperty() {
             throw new AssertionError("This method should not be called.");
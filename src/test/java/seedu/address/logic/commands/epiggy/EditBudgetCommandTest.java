@@ -15,9 +15,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -42,6 +42,7 @@ import seedu.address.model.epiggy.Allowance;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
 import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.epiggy.item.Period;
 import seedu.address.model.person.Person;
@@ -302,7 +303,7 @@ public class EditBudgetCommandTest {
         }
 
         @Override
-        public void sortExpenses(Comparator<Expense> comparator) {
+        public void sortExpenses(ExpenseSort sort) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -356,6 +357,11 @@ public class EditBudgetCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addOlderExpenses(int index, List<Expense> olderExpenses) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyProperty<Expense> selectedExpenseProperty() {
             throw new AssertionError("This method should not be called.");
@@ -28,6 +28,8 @@ import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.CliSyntax;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.epiggy.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -42,13 +44,13 @@ public class FindCommandTest {
     private Model expectedModel = new ModelManager(getTypicalEPiggy(), new UserPrefs());
 
     @Test
-    public void equals() {
+    public void equals() throws Exception {
         ArgumentMultimap firstMap = ArgumentTokenizer.tokenize(" n/first", PREFIX_NAME);
         ArgumentMultimap secondMap = ArgumentTokenizer.tokenize(" n/second", PREFIX_NAME);
         ExpenseContainsKeywordsPredicate firstPredicate =
-                new ExpenseContainsKeywordsPredicate(firstMap);
+                new ExpenseContainsKeywordsPredicate(FindCommandParser.compileQuery(firstMap));
         ExpenseContainsKeywordsPredicate secondPredicate =
-                new ExpenseContainsKeywordsPredicate(secondMap);
+                new ExpenseContainsKeywordsPredicate(FindCommandParser.compileQuery(secondMap));
 
         FindCommand findFirstCommand = new FindCommand(firstPredicate);
         FindCommand findSecondCommand = new FindCommand(secondPredicate);
@@ -171,7 +173,12 @@ public class FindCommandTest {
         String expectedMessage = String.format(MESSAGE_EXPENSES_LISTED_OVERVIEW, expectedItems);
         ArgumentMultimap keywordsMap =
                 ArgumentTokenizer.tokenize(userInput, prefixes);
-        ExpenseContainsKeywordsPredicate predicate = new ExpenseContainsKeywordsPredicate(keywordsMap);
+        ExpenseContainsKeywordsPredicate predicate;
+        try {
+            predicate = new ExpenseContainsKeywordsPredicate(FindCommandParser.compileQuery(keywordsMap));
+        } catch (ParseException pe) {
+            throw new AssertionError("Execution of command should not fail.", pe);
+        }
         FindCommand command = new FindCommand(predicate);
         command.execute(model, null);
         expectedModel.updateFilteredExpensesList(predicate);
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands.epiggy;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static seedu.address.testutil.epiggy.TypicalExpenses.BOWLING;
 import static seedu.address.testutil.epiggy.TypicalExpenses.CLOTHES;
 import static seedu.address.testutil.epiggy.TypicalExpenses.DUMPLING_SOUP;
@@ -18,9 +19,10 @@ import org.junit.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.epiggy.comparators.CompareExpenseByCost;
-import seedu.address.model.epiggy.comparators.CompareExpenseByDate;
-import seedu.address.model.epiggy.comparators.CompareExpenseByName;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
+import seedu.address.model.epiggy.comparators.ExpenseSort.Key;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code SortCommand}.
@@ -32,9 +34,9 @@ public class SortCommandTest {
     @Test
     public void execute_sortByName_success() {
         expectedModel = new ModelManager(getTypicalEPiggy(), new UserPrefs());
-        SortCommand command = new SortCommand(new CompareExpenseByName());
+        SortCommand command = new SortCommand(new ExpenseSort(Key.NAME));
         command.execute(model, null);
-        expectedModel.sortExpenses(new CompareExpenseByName());
+        expectedModel.sortExpenses(new ExpenseSort(Key.NAME));
         assertEquals(Arrays.asList(MOVIE_AVENGERS, BOWLING, CLOTHES, DUMPLING_SOUP, IPHONE, KARAOKE, KFC, STATIONARY),
                 model.getFilteredExpenseList());
     }
@@ -42,9 +44,9 @@ public class SortCommandTest {
     @Test
     public void execute_sortByCost_success() {
         expectedModel = new ModelManager(getTypicalEPiggy(), new UserPrefs());
-        SortCommand command = new SortCommand(new CompareExpenseByCost());
+        SortCommand command = new SortCommand(new ExpenseSort(Key.COST));
         command.execute(model, null);
-        expectedModel.sortExpenses(new CompareExpenseByCost());
+        expectedModel.sortExpenses(new ExpenseSort(Key.COST));
         assertEquals(Arrays.asList(IPHONE, CLOTHES, KFC, KARAOKE, MOVIE_AVENGERS, DUMPLING_SOUP, BOWLING, STATIONARY),
                 model.getFilteredExpenseList());
     }
@@ -52,10 +54,29 @@ public class SortCommandTest {
     @Test
     public void execute_sortByDate_success() {
         expectedModel = new ModelManager(getTypicalEPiggy(), new UserPrefs());
-        SortCommand command = new SortCommand(new CompareExpenseByDate());
+        SortCommand command = new SortCommand(new ExpenseSort(Key.DATE));
         command.execute(model, null);
-        expectedModel.sortExpenses(new CompareExpenseByDate());
+        expectedModel.sortExpenses(new ExpenseSort(Key.DATE));
         assertEquals(Arrays.asList(MOVIE_AVENGERS, KFC, STATIONARY, DUMPLING_SOUP, IPHONE, CLOTHES, KARAOKE, BOWLING),
                 model.getFilteredExpenseList());
     }
+
+    @Test
+    public void execute_sortByNameThenCost_tiesSortedByCost() {
+        Expense cheaperMovie = new ExpensesBuilder(MOVIE_AVENGERS).withCost("1").build();
+        model.addExpense(cheaperMovie);
+        SortCommand command = new SortCommand(new ExpenseSort(Key.NAME, Key.COST));
+        command.execute(model, null);
+        assertEquals(Arrays.asList(MOVIE_AVENGERS, cheaperMovie, BOWLING, CLOTHES, DUMPLING_SOUP, IPHONE, KARAOKE,
+                KFC, STATIONARY), model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void execute_sort_expenseListUnchanged() {
+        SortCommand command = new SortCommand(new ExpenseSort(Key.COST));
+        command.execute(model, null);
+        assertEquals(getTypicalEPiggy().getExpenseList(), model.getEPiggy().getExpenseList());
+        assertFalse(model.canUndoEPiggy());
+        assertEquals(IPHONE, model.getFilteredExpenseList().get(0));
+    }
 }
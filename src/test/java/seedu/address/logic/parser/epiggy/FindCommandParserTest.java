@@ -30,21 +30,23 @@ public class FindCommandParserTest {
     }
 
     @Test
-    public void parse_validArgs_returnsFindExpenseCommand() {
+    public void parse_validArgs_returnsFindExpenseCommand() throws Exception {
         // one keyword
         ArgumentMultimap keywordsMap = prepareKeywords(" n/Stationary ");
         FindCommand expectedFindCommand =
-                new FindCommand(new ExpenseContainsKeywordsPredicate(keywordsMap));
+                new FindCommand(new ExpenseContainsKeywordsPredicate(FindCommandParser.compileQuery(keywordsMap)));
         assertParseSuccess(parser, " n/Stationary ", expectedFindCommand);
 
         // multiple keywords
         keywordsMap = prepareKeywords("n/clothes t/shopping");
-        expectedFindCommand = new FindCommand(new ExpenseContainsKeywordsPredicate(keywordsMap));
+        expectedFindCommand =
+                new FindCommand(new ExpenseContainsKeywordsPredicate(FindCommandParser.compileQuery(keywordsMap)));
         assertParseSuccess(parser, " n/clothes t/shopping", expectedFindCommand);
 
         // all keywords
         keywordsMap = prepareKeywords("n/kfc t/food d/09/04/2019 $/5.00");
-        expectedFindCommand = new FindCommand(new ExpenseContainsKeywordsPredicate(keywordsMap));
+        expectedFindCommand =
+                new FindCommand(new ExpenseContainsKeywordsPredicate(FindCommandParser.compileQuery(keywordsMap)));
         assertParseSuccess(parser, " n/kfc t/food d/09/04/2019 $/5.00", expectedFindCommand);
     }
 
@@ -10,9 +10,8 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSucces
 import org.junit.Test;
 
 import seedu.address.logic.commands.epiggy.SortCommand;
-import seedu.address.model.epiggy.comparators.CompareExpenseByCost;
-import seedu.address.model.epiggy.comparators.CompareExpenseByDate;
-import seedu.address.model.epiggy.comparators.CompareExpenseByName;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
+import seedu.address.model.epiggy.comparators.ExpenseSort.Key;
 
 public class SortCommandParserTest {
 
@@ -27,11 +26,19 @@ public class SortCommandParserTest {
     @Test
     public void parse_validArgs_returnsSortExpenseCommand() {
         assertParseSuccess(parser, " " + PREFIX_NAME.toString(),
-                new SortCommand(new CompareExpenseByName()));
+                new SortCommand(new ExpenseSort(Key.NAME)));
         assertParseSuccess(parser, " " + PREFIX_COST.toString(),
-                new SortCommand(new CompareExpenseByCost()));
+                new SortCommand(new ExpenseSort(Key.COST)));
         assertParseSuccess(parser, " " + PREFIX_DATE.toString(),
-                new SortCommand(new CompareExpenseByDate()));
+                new SortCommand(new ExpenseSort(Key.DATE)));
+    }
+
+    @Test
+    public void parse_multipleKeys_returnsSortCommandWithKeysInOrder() {
+        assertParseSuccess(parser, " " + PREFIX_DATE + " " + PREFIX_COST,
+                new SortCommand(new ExpenseSort(Key.DATE, Key.COST)));
+        assertParseSuccess(parser, " " + PREFIX_COST + "  " + PREFIX_NAME + " " + PREFIX_DATE + " ",
+                new SortCommand(new ExpenseSort(Key.COST, Key.NAME, Key.DATE)));
     }
 
     @Test
@@ -46,5 +53,9 @@ public class SortCommandParserTest {
                 SortCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "$/ t/ n/", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 SortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " n/food", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " d/ n/ d/", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SortCommand.MESSAGE_USAGE));
     }
 }
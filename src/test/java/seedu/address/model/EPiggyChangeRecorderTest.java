@@ -0,0 +1,145 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBudgets.ONE;
+import static seedu.address.testutil.epiggy.TypicalExpenses.KFC;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalEPiggy;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.model.epiggy.item.Name;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+
+public class EPiggyChangeRecorderTest {
+
+    private final EPiggy ePiggy = getTypicalEPiggy();
+    private final ListBackedEPiggy saved = new ListBackedEPiggy(ePiggy);
+    private final EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(ePiggy);
+
+    @Test
+    public void takeChanges_nothingChanged_emptyChanges() {
+        EPiggyChanges changes = recorder.takeChanges();
+        assertTrue(changes.isEmpty());
+        assertEquals(ePiggy.getExpenseList().size(), changes.getOldExpenseCount());
+        assertEquals(ePiggy.getExpenseList().size(), changes.getNewExpenseCount());
+    }
+
+    @Test
+    public void takeChanges_expensesEdited_onlyExpensesBetweenEditsHeld() {
+        List<Expense> expenses = ePiggy.getExpenseList();
+        ePiggy.setExpense(expenses.get(2), new ExpensesBuilder(expenses.get(2)).withCost("1.20").build());
+        ePiggy.setExpense(expenses.get(4), new ExpensesBuilder(expenses.get(4)).withCost("3.40").build());
+
+        EPiggyChanges changes = recorder.takeChanges();
+        assertEquals(2, changes.getFrom());
+        assertEquals(3, changes.getRemovedCount());
+        assertEquals(expenses.subList(2, 5), changes.getAddedExpenses());
+        assertChangesReproduceEPiggy(changes);
+
+        // the next changes are recorded from the data the changes were taken from
+        assertTrue(recorder.takeChanges().isEmpty());
+    }
+
+    @Test
+    public void takeChanges_expensesAddedAndDeleted_changesReproduceEPiggy() {
+        ePiggy.addExpense(new ExpensesBuilder().withName("Laksa").build());
+        ePiggy.deleteExpense(KFC);
+        ePiggy.batch(() -> {
+            ePiggy.addExpense(new ExpensesBuilder().withName("Chicken Rice").build());
+            ePiggy.deleteExpense(ePiggy.getExpenseList().get(0));
+        });
+        assertChangesReproduceEPiggy(recorder.takeChanges());
+    }
+
+    @Test
+    public void takeChanges_randomChanges_changesReproduceEPiggy() {
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            int changeCount = random.nextInt(4);
+            for (int i = 0; i < changeCount; i++) {
+                makeRandomChange(random, round * 10 + i);
+            }
+            assertChangesReproduceEPiggy(recorder.takeChanges());
+        }
+    }
+
+    @Test
+    public void takeChanges_budgetsAndGoalChanged_budgetsAndGoalHeld() {
+        ePiggy.addBudget(0, ONE);
+        Goal goal = new Goal(new Name("Holiday"), new Cost("1500"));
+        ePiggy.setGoal(goal);
+
+        EPiggyChanges changes = recorder.takeChanges();
+        assertFalse(changes.isEmpty());
+        assertTrue(changes.isBudgetsChanged());
+        assertEquals(0, changes.getBudgetFrom());
+        assertEquals(0, changes.getRemovedBudgetCount());
+        assertEquals(Collections.singletonList(ONE), changes.getAddedBudgets());
+        assertTrue(changes.isGoalChanged());
+        assertEquals(goal, changes.getGoal());
+        assertChangesReproduceEPiggy(changes);
+
+        EPiggyChanges nextChanges = recorder.takeChanges();
+        assertFalse(nextChanges.isBudgetsChanged());
+        assertFalse(nextChanges.isGoalChanged());
+    }
+
+    @Test
+    public void takeChanges_expenseAddedWithinBudget_budgetsNotChanged() {
+        ePiggy.addBudget(0, ONE);
+        recorder.takeChanges().applyTo(saved);
+        Cost remainingAmount = ePiggy.getBudgetList().get(0).getRemainingAmount();
+
+        ePiggy.addExpense(new ExpensesBuilder().withName("Laksa").withDate("05/02/2019").build());
+        assertFalse(remainingAmount.equals(ePiggy.getBudgetList().get(0).getRemainingAmount()));
+
+        EPiggyChanges changes = recorder.takeChanges();
+        assertFalse(changes.isBudgetsChanged());
+        assertEquals(1, changes.getAddedExpenses().size());
+        assertChangesReproduceEPiggy(changes);
+    }
+
+    /**
+     * Adds, deletes or edits an expense at a random index, or changes several expenses in one batch.
+     */
+    private void makeRandomChange(Random random, int id) {
+        List<Expense> expenses = ePiggy.getExpenseList();
+        int index = expenses.isEmpty() ? 0 : random.nextInt(expenses.size());
+        Expense newExpense = new ExpensesBuilder().withName("Expense " + id).build();
+        switch (expenses.isEmpty() ? 0 : random.nextInt(4)) {
+        case 0:
+            ePiggy.addExpense(newExpense);
+            break;
+        case 1:
+            ePiggy.deleteExpense(expenses.get(index));
+            break;
+        case 2:
+            ePiggy.setExpense(expenses.get(index), newExpense);
+            break;
+        default:
+            ePiggy.replaceExpenses(index, Math.min(expenses.size(), index + random.nextInt(3)),
+                    Arrays.asList(newExpense, new ExpensesBuilder().withName("Expense " + id + " more").build()));
+            break;
+        }
+    }
+
+    /**
+     * Asserts that making {@code changes} to the data they were recorded from gives the current data.
+     */
+    private void assertChangesReproduceEPiggy(EPiggyChanges changes) {
+        changes.applyTo(saved);
+        assertEquals(ePiggy.getExpenseList(), saved.getExpenseList());
+        assertEquals(ePiggy.getBudgetList(), saved.getBudgetList());
+        assertEquals(ePiggy.getGoal().get(), saved.getGoal().get());
+    }
+}
@@ -8,9 +8,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_AMOUNT_SECONDEX
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PERIOD_SECONDEXTRA;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalBudgets.ONE;
+import static seedu.address.testutil.TypicalBudgets.TWO;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalEPiggy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,17 +28,23 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.epiggy.Budget;
 import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.ExpenseKeywordIndex;
 import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.ReportRollups;
 
 import seedu.address.model.epiggy.item.Cost;
 import seedu.address.model.epiggy.item.Item;
+import seedu.address.model.epiggy.item.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.epiggy.AllowanceBuilder;
 import seedu.address.testutil.epiggy.BudgetBuilder;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
 
 public class EPiggyTest {
 
@@ -119,6 +127,153 @@ public class EPiggyTest {
         assertEquals(ePiggy.getBudgetList(), Arrays.asList(editedOne));
     }
 
+    @Test
+    public void addExpense_expenseWithinBudget_remainingAmountDeducted() {
+        ePiggy.addBudget(0, new BudgetBuilder(ONE).build());
+        Expense expense = new ExpensesBuilder().withCost("5.00").withDate("05/02/2019").build();
+        ePiggy.addExpense(expense);
+        assertEquals(new Cost(95), ePiggy.getBudgetList().get(0).getRemainingAmount());
+    }
+
+    @Test
+    public void addExpense_expenseOutsideBudget_remainingAmountUnchanged() {
+        ePiggy.addBudget(0, new BudgetBuilder(ONE).build());
+        ePiggy.addExpense(new ExpensesBuilder().withCost("5.00").withDate("11/02/2019").build());
+        ePiggy.addAllowance(new AllowanceBuilder().withCost("5.00").withDate("05/02/2019").build());
+        assertEquals(new Cost(100), ePiggy.getBudgetList().get(0).getRemainingAmount());
+    }
+
+    @Test
+    public void deleteExpense_expenseWithinBudget_remainingAmountRestored() {
+        ePiggy.addBudget(0, new BudgetBuilder(ONE).build());
+        Expense expense = new ExpensesBuilder().withCost("5.00").withDate("05/02/2019").build();
+        ePiggy.addExpense(expense);
+        ePiggy.deleteExpense(expense);
+        assertEquals(new Cost(100), ePiggy.getBudgetList().get(0).getRemainingAmount());
+    }
+
+    @Test
+    public void setExpense_expenseMovedOutOfBudget_remainingAmountRestored() {
+        ePiggy.addBudget(0, new BudgetBuilder(ONE).build());
+        Expense expense = new ExpensesBuilder().withCost("5.00").withDate("05/02/2019").build();
+        ePiggy.addExpense(expense);
+        ePiggy.setExpense(expense, new ExpensesBuilder(expense).withCost("8.00").build());
+        assertEquals(new Cost(92), ePiggy.getBudgetList().get(0).getRemainingAmount());
+        ePiggy.setExpense(ePiggy.getExpenseList().get(0),
+                new ExpensesBuilder(expense).withDate("11/02/2019").build());
+        assertEquals(new Cost(100), ePiggy.getBudgetList().get(0).getRemainingAmount());
+    }
+
+    @Test
+    public void loadData_expensesAndBudgets_sameAsAddedOneByOne() {
+        List<Expense> expenses = Arrays.asList(
+                new ExpensesBuilder().withCost("7.00").withDate("12/02/2019").build(),
+                new ExpensesBuilder().withCost("5.00").withDate("05/02/2019").build(),
+                new AllowanceBuilder().withCost("20.00").withDate("06/02/2019").build(),
+                new ExpensesBuilder().withCost("3.00").withDate("11/02/2019").build(),
+                new ExpensesBuilder().withCost("9.00").withDate("01/01/2019").build(),
+                new ExpensesBuilder().withCost("2.00").withDate("10/02/2019").build());
+        List<Budget> budgets = Arrays.asList(TWO, ONE);
+        Goal goal = new Goal(new Name("Holiday"), new Cost("100"));
+
+        EPiggy expectedEPiggy = new EPiggy();
+        for (int i = 0; i < budgets.size(); i++) {
+            expectedEPiggy.addBudget(i, new Budget(budgets.get(i)));
+        }
+        expenses.forEach(expectedEPiggy::addExpense);
+        expectedEPiggy.setGoal(goal);
+
+        ePiggy.loadData(expenses, budgets, goal);
+        assertEquals(expectedEPiggy, ePiggy);
+        assertEquals(expectedEPiggy.getBudgetList(), ePiggy.getBudgetList());
+        assertEquals(new Cost(290), ePiggy.getBudgetList().get(0).getRemainingAmount());
+        assertEquals(new Cost(93), ePiggy.getBudgetList().get(1).getRemainingAmount());
+        assertEquals(expectedEPiggy.getSavings().get(), ePiggy.getSavings().get());
+        assertEquals(goal, ePiggy.getGoal().get());
+    }
+
+    @Test
+    public void loadData_withInvalidationListener_listenerCalledOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        ePiggy.addListener(observable -> counter.set(counter.get() + 1));
+        ePiggy.loadData(Arrays.asList(new ExpensesBuilder().build(), new ExpensesBuilder().withName("Laksa").build()),
+                Collections.singletonList(ONE), null);
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void batch_changesInBatch_listenersNotifiedOnce() {
+        SimpleIntegerProperty modifiedCount = new SimpleIntegerProperty();
+        SimpleIntegerProperty expenseChangeCount = new SimpleIntegerProperty();
+        ePiggy.addListener(observable -> modifiedCount.set(modifiedCount.get() + 1));
+        ePiggy.getExpenseList().addListener((ListChangeListener<Expense>) change ->
+                expenseChangeCount.set(expenseChangeCount.get() + 1));
+
+        ePiggy.batch(() -> {
+            ePiggy.addExpense(new ExpensesBuilder().withCost("1").build());
+            ePiggy.addExpense(new AllowanceBuilder().withCost("3").build());
+            ePiggy.setExpenses(Arrays.asList(ePiggy.getExpenseList().get(1), ePiggy.getExpenseList().get(0)));
+            assertEquals(0, modifiedCount.get());
+            assertEquals(0, expenseChangeCount.get());
+        });
+        assertEquals(1, modifiedCount.get());
+        assertEquals(1, expenseChangeCount.get());
+        assertEquals(2, ePiggy.getExpenseList().size());
+        assertEquals(new Cost(2), ePiggy.getSavings().get());
+    }
+
+    @Test
+    public void resetData_withInvalidationListener_listenerCalledOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        ePiggy.addListener(observable -> counter.set(counter.get() + 1));
+        ePiggy.resetData(getTypicalEPiggy());
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        ePiggy.endBatch();
+    }
+
+    @Test
+    public void getSavings_expensesChanged_savingsUpdated() {
+        SimpleObjectProperty<Cost> savings = ePiggy.getSavings();
+        Expense expense = new ExpensesBuilder().withCost("0.10").build();
+        ePiggy.addExpense(new AllowanceBuilder().withCost("0.30").build());
+        ePiggy.addExpense(expense);
+        assertEquals(new Cost(0.2), savings.get());
+        ePiggy.setExpense(expense, new ExpensesBuilder(expense).withCost("0.20").build());
+        assertEquals(new Cost(0.1), savings.get());
+        ePiggy.deleteExpense(ePiggy.getExpenseList().get(1));
+        assertEquals(new Cost(0.3), savings.get());
+        assertEquals(savings, ePiggy.getSavings());
+    }
+
+    @Test
+    public void snapshot_ePiggyChangedAfterwards_snapshotUnchanged() {
+        ePiggy.addExpense(new ExpensesBuilder().build());
+        ePiggy.addBudget(0, new BudgetBuilder().build());
+        EPiggySnapshot snapshot = new EPiggySnapshot(ePiggy);
+        List<Expense> expenses = new ArrayList<>(ePiggy.getExpenseList());
+        Budget budget = new Budget(ePiggy.getBudgetList().get(0));
+
+        ePiggy.addExpense(new ExpensesBuilder().withName("Laksa").build());
+        ePiggy.setGoal(new Goal(new Name("Holiday"), new Cost("100")));
+        assertEquals(expenses, snapshot.getExpenseList());
+        assertEquals(Collections.singletonList(budget), snapshot.getBudgetList());
+        assertEquals(null, snapshot.getGoal().get());
+    }
+
+    @Test
+    public void getSavings_readByExpenseListListener_savingsUpdated() {
+        List<Cost> savingsSeen = new ArrayList<>();
+        ePiggy.getExpenseList().addListener((ListChangeListener<Expense>) change ->
+                savingsSeen.add(ePiggy.getSavings().get()));
+        ePiggy.addExpense(new AllowanceBuilder().withCost("3").build());
+        assertEquals(Collections.singletonList(new Cost(3)), savingsSeen);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -164,6 +319,16 @@ public class EPiggyTest {
             return FXCollections.unmodifiableObservableList(expenses);
         }
 
+        @Override
+        public ExpenseKeywordIndex getExpenseKeywordIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReportRollups getReportRollups() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Item> getItemList() {
             return FXCollections.unmodifiableObservableList(items);
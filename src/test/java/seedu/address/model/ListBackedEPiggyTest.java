@@ -0,0 +1,36 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalEPiggy;
+
+import org.junit.Test;
+
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+
+public class ListBackedEPiggyTest {
+
+    @Test
+    public void getSavingsAndKeywordIndex_changesMade_builtFromChangedData() {
+        EPiggy ePiggy = getTypicalEPiggy();
+        ListBackedEPiggy copy = new ListBackedEPiggy(ePiggy);
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(ePiggy);
+
+        ePiggy.addExpense(new ExpensesBuilder().withName("Laksa").withCost("4.50").withDate("03/01/2019").build());
+        recorder.takeChanges().applyTo(copy);
+
+        assertEquals(ePiggy.getExpenseList(), copy.getExpenseList());
+        assertEquals(ePiggy.getSavings().getValue(), copy.getSavings().getValue());
+        assertEquals(ePiggy.getExpenseKeywordIndex().getExpensesWithName("laksa"),
+                copy.getExpenseKeywordIndex().getExpensesWithName("laksa"));
+        assertEquals(ePiggy.getReportRollups().getYear(2019).getExpensesInCents(),
+                copy.getReportRollups().getYear(2019).getExpensesInCents());
+    }
+
+    @Test
+    public void getPersonListAndItemList_emptyLists() {
+        ListBackedEPiggy copy = new ListBackedEPiggy(getTypicalEPiggy());
+        assertTrue(copy.getPersonList().isEmpty());
+        assertTrue(copy.getItemList().isEmpty());
+    }
+}
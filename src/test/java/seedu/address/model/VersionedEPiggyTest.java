@@ -7,13 +7,21 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.epiggy.TypicalExpenses.DUMPLING_SOUP;
+import static seedu.address.testutil.epiggy.TypicalExpenses.IPHONE;
+import static seedu.address.testutil.epiggy.TypicalExpenses.KFC;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalEPiggy;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.comparators.CompareExpenseByCost;
 import seedu.address.testutil.EPiggyBuilder;
 
 public class VersionedEPiggyTest {
@@ -207,6 +215,72 @@ public class VersionedEPiggyTest {
         assertThrows(VersionedEPiggy.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void commit_historyLimitExceeded_earliestStatesRemoved() {
+        VersionedEPiggy versionedAddressBook = new VersionedEPiggy(emptyAddressBook, 1);
+        versionedAddressBook.addExpense(DUMPLING_SOUP);
+        versionedAddressBook.commit();
+        versionedAddressBook.addExpense(KFC);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(Collections.singletonList(DUMPLING_SOUP), versionedAddressBook.getExpenseList());
+    }
+
+    @Test
+    public void undo_expensesAddedAndSorted_originalOrderRestored() {
+        EPiggy ePiggy = getTypicalEPiggy();
+        VersionedEPiggy versionedAddressBook = new VersionedEPiggy(ePiggy);
+        versionedAddressBook.addExpense(IPHONE);
+        versionedAddressBook.setExpenses(sortedByCost(versionedAddressBook.getExpenseList()));
+        versionedAddressBook.commit();
+        List<Expense> sortedExpenses = new ArrayList<>(versionedAddressBook.getExpenseList());
+
+        versionedAddressBook.undo();
+        assertEquals(ePiggy, versionedAddressBook);
+
+        versionedAddressBook.redo();
+        assertEquals(sortedExpenses, versionedAddressBook.getExpenseList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        VersionedEPiggy versionedAddressBook = new VersionedEPiggy(emptyAddressBook);
+        versionedAddressBook.addExpense(DUMPLING_SOUP);
+        versionedAddressBook.commit();
+        versionedAddressBook.addExpense(KFC);
+        versionedAddressBook.setExpenses(Arrays.asList(KFC, DUMPLING_SOUP));
+
+        versionedAddressBook.undo();
+        assertEquals(Collections.emptyList(), versionedAddressBook.getExpenseList());
+
+        versionedAddressBook.redo();
+        assertEquals(Collections.singletonList(DUMPLING_SOUP), versionedAddressBook.getExpenseList());
+    }
+
+    @Test
+    public void undo_manyChanges_listenersNotifiedOnce() {
+        VersionedEPiggy versionedAddressBook = new VersionedEPiggy(getTypicalEPiggy());
+        versionedAddressBook.addExpense(IPHONE);
+        versionedAddressBook.addExpense(KFC);
+        versionedAddressBook.setExpenses(sortedByCost(versionedAddressBook.getExpenseList()));
+        versionedAddressBook.commit();
+        List<Expense> changedExpenses = new ArrayList<>(versionedAddressBook.getExpenseList());
+        List<Integer> changeCounts = new ArrayList<>();
+        versionedAddressBook.getExpenseList().addListener((ListChangeListener<Expense>) change ->
+                changeCounts.add(1));
+
+        versionedAddressBook.undo();
+        assertEquals(1, changeCounts.size());
+        assertEquals(getTypicalEPiggy(), versionedAddressBook);
+
+        versionedAddressBook.redo();
+        assertEquals(2, changeCounts.size());
+        assertEquals(changedExpenses, versionedAddressBook.getExpenseList());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
     @Test
     public void equals() {
         VersionedEPiggy versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
@@ -295,4 +369,13 @@ public class VersionedEPiggyTest {
             versionedAddressBook.undo();
         }
     }
+
+    /**
+     * Returns a copy of {@code expenses} sorted by {@code CompareExpenseByCost}.
+     */
+    private static List<Expense> sortedByCost(List<Expense> expenses) {
+        List<Expense> sortedExpenses = new ArrayList<>(expenses);
+        sortedExpenses.sort(new CompareExpenseByCost());
+        return sortedExpenses;
+    }
 }
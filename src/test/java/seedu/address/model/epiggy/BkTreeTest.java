@@ -0,0 +1,45 @@
+package seedu.address.model.epiggy;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void add_duplicateWord_addedOnce() {
+        tree.add("lunch");
+        tree.add("lunch");
+        assertEquals(1, tree.size());
+    }
+
+    @Test
+    public void search_emptyTree_noWords() {
+        assertEquals(Collections.emptyList(), tree.search("lunch", 2));
+    }
+
+    @Test
+    public void search_sameWordsAsComparingEveryWord() {
+        List<String> words = Arrays.asList("lunch", "launch", "lunches", "dinner", "diner", "food", "foot", "fool",
+                "friends", "fiends", "movie", "movies", "entertainment", "school", "shopping");
+        words.forEach(tree::add);
+        for (String query : Arrays.asList("lunch", "dinnr", "fod", "frends", "mov", "xyz", "")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                HashSet<String> expected = new HashSet<>();
+                for (String word : words) {
+                    if (ExpenseContainsKeywordsPredicate.levenshtienDist(word, query) <= maxDistance) {
+                        expected.add(word);
+                    }
+                }
+                assertEquals(expected, new HashSet<>(tree.search(query, maxDistance)));
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.epiggy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import org.junit.Test;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.epiggy.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+
+public class ExpenseContainsKeywordsPredicateTest {
+
+    private final Expense lunch = new ExpensesBuilder().withName("Chicken Rice").withCost("5.50")
+            .withDate("03/01/2019").withTags("Food").build();
+
+    @Test
+    public void test_costRange_boundsInclusive() throws Exception {
+        assertTrue(predicateFor(" $/5.50").test(lunch));
+        assertTrue(predicateFor(" $/5.5:6").test(lunch));
+        assertTrue(predicateFor(" $/1:5.50").test(lunch));
+        assertFalse(predicateFor(" $/5.51:6").test(lunch));
+        assertFalse(predicateFor(" $/5.49").test(lunch));
+    }
+
+    @Test
+    public void test_dateRange_boundsInclusive() throws Exception {
+        assertTrue(predicateFor(" d/03/01/2019").test(lunch));
+        assertTrue(predicateFor(" d/01/01/2019:03/01/2019").test(lunch));
+        assertTrue(predicateFor(" d/03/01/2019:01/01/2019").test(lunch));
+        assertFalse(predicateFor(" d/04/01/2019:31/01/2019").test(lunch));
+    }
+
+    @Test
+    public void test_nameAndTagKeywords_caseIgnored() throws Exception {
+        assertTrue(predicateFor(" n/chicken").test(lunch));
+        assertTrue(predicateFor(" t/FOOD").test(lunch));
+        assertFalse(predicateFor(" n/chicken t/transport").test(lunch));
+    }
+
+    @Test
+    public void test_keywordsWithTypos_matchedWithinThreshold() throws Exception {
+        Expense tea = new ExpensesBuilder().withName("Tea").withTags("Drinks").build();
+        assertTrue(predicateFor(" n/TEE").test(tea));
+        assertTrue(predicateFor(" t/DRINX").test(tea));
+        assertFalse(predicateFor(" n/coffee").test(tea));
+        // a name keyword that is neither contained in nor close to the name does not match
+        assertFalse(predicateFor(" n/tea n/juices").test(tea));
+    }
+
+    @Test
+    public void levenshtienDist_caseIgnored() {
+        assertEquals(0, ExpenseContainsKeywordsPredicate.levenshtienDist("Chicken", "cHICKEN"));
+        assertEquals(2, ExpenseContainsKeywordsPredicate.levenshtienDist("Rice", "RACES"));
+    }
+
+    @Test
+    public void test_sameQueryOnSeveralThreads_sameResults() throws Exception {
+        ExpenseContainsKeywordsPredicate predicate = predicateFor(" n/chicken t/fod");
+        Expense tea = new ExpensesBuilder().withName("Tea").withTags("Drinks").build();
+        Thread[] threads = new Thread[4];
+        boolean[] isCorrect = new boolean[threads.length];
+        for (int i = 0; i < threads.length; i++) {
+            int thread = i;
+            threads[i] = new Thread(() -> {
+                boolean result = true;
+                for (int j = 0; j < 10000; j++) {
+                    result = result && predicate.test(lunch) && !predicate.test(tea);
+                }
+                isCorrect[thread] = result;
+            });
+            threads[i].start();
+        }
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+            assertTrue(isCorrect[i]);
+        }
+    }
+
+    @Test(expected = ParseException.class)
+    public void compileQuery_unparseableCost_throwsParseException() throws Exception {
+        predicateFor(" $/five");
+    }
+
+    @Test(expected = ParseException.class)
+    public void compileQuery_unparseableDate_throwsParseException() throws Exception {
+        predicateFor(" d/yesterday");
+    }
+
+    @Test
+    public void equals_sameKeywords_sameHashCode() throws Exception {
+        ExpenseContainsKeywordsPredicate predicate = predicateFor(" n/chicken $/1:6 d/03/01/2019");
+        ExpenseContainsKeywordsPredicate samePredicate = predicateFor(" n/chicken $/1:6 d/03/01/2019");
+        assertEquals(predicate, samePredicate);
+        assertEquals(predicate.hashCode(), samePredicate.hashCode());
+        assertFalse(predicate.equals(predicateFor(" n/chicken $/1:7 d/03/01/2019")));
+    }
+
+    private ExpenseContainsKeywordsPredicate predicateFor(String userInput) throws ParseException {
+        return new ExpenseContainsKeywordsPredicate(FindCommandParser.compileQuery(
+                ArgumentTokenizer.tokenize(userInput, PREFIX_NAME, PREFIX_COST, PREFIX_TAG, PREFIX_DATE)));
+    }
+}
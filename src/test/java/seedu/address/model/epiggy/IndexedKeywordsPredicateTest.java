@@ -0,0 +1,80 @@
+package seedu.address.model.epiggy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COST;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalExpenses;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.epiggy.FindCommandParser;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+
+public class IndexedKeywordsPredicateTest {
+
+    private final ExpenseList expenseList = new ExpenseList();
+
+    @Test
+    public void test_sameResultsAsUnindexedPredicate() throws Exception {
+        expenseList.setExpenses(getTypicalExpenses());
+        String[] userInputs = {" n/ ", " n/kfc", " n/soup", " n/Dumpling Sop", " n/iphone n/kfc", " t/friends",
+            " t/food t/lunch", " t/frends", " n/movie t/friends $/1:20", " t/food d/01/01/2019:30/04/2019",
+            " n/k", " n/mp", " n/umpli", " n/xyzzy"};
+        for (String userInput : userInputs) {
+            ExpenseContainsKeywordsPredicate predicate = new ExpenseContainsKeywordsPredicate(FindCommandParser
+                    .compileQuery(ArgumentTokenizer.tokenize(userInput, PREFIX_NAME, PREFIX_COST, PREFIX_TAG,
+                            PREFIX_DATE)));
+            IndexedKeywordsPredicate indexedPredicate =
+                    new IndexedKeywordsPredicate(predicate, expenseList.getKeywordIndex());
+            for (Expense expense : expenseList) {
+                assertEquals(userInput + " " + expense, predicate.test(expense), indexedPredicate.test(expense));
+            }
+        }
+    }
+
+    @Test
+    public void test_expenseAddedAfterFirstTest_expenseMatched() {
+        ExpenseContainsKeywordsPredicate predicate = new ExpenseContainsKeywordsPredicate(
+                new FindQuery(Collections.singletonList("laksa"), Collections.emptyList()));
+        IndexedKeywordsPredicate indexedPredicate =
+                new IndexedKeywordsPredicate(predicate, expenseList.getKeywordIndex());
+        Expense laksa = new ExpensesBuilder().withName("Laksa").build();
+        assertFalse(indexedPredicate.test(laksa));
+
+        expenseList.add(laksa);
+        assertTrue(indexedPredicate.test(laksa));
+    }
+
+    @Test
+    public void test_expenseRemoved_substringNoLongerMatched() {
+        ExpenseContainsKeywordsPredicate predicate = new ExpenseContainsKeywordsPredicate(
+                new FindQuery(Collections.singletonList("kopi o"), Collections.emptyList()));
+        Expense kopi = new ExpensesBuilder().withName("Kopi O Kosong").build();
+        expenseList.add(kopi);
+        assertTrue(expenseList.getKeywordIndex().getExpensesWithName("kopi o").contains(kopi));
+
+        expenseList.remove(kopi);
+        assertTrue(expenseList.getKeywordIndex().getExpensesWithName("kopi o").isEmpty());
+        assertFalse(new IndexedKeywordsPredicate(predicate, expenseList.getKeywordIndex()).test(kopi));
+    }
+
+    @Test
+    public void equals_samePredicateAndIndex_sameHashCode() {
+        FindQuery query = new FindQuery(Collections.singletonList("kfc"), Collections.emptyList());
+        IndexedKeywordsPredicate indexedPredicate = new IndexedKeywordsPredicate(
+                new ExpenseContainsKeywordsPredicate(query), expenseList.getKeywordIndex());
+        IndexedKeywordsPredicate samePredicate = new IndexedKeywordsPredicate(
+                new ExpenseContainsKeywordsPredicate(query), expenseList.getKeywordIndex());
+        assertEquals(indexedPredicate, samePredicate);
+        assertEquals(indexedPredicate.hashCode(), samePredicate.hashCode());
+        assertFalse(indexedPredicate.equals(new IndexedKeywordsPredicate(
+                new ExpenseContainsKeywordsPredicate(query), new ExpenseList().getKeywordIndex())));
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.model.epiggy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.EPiggy;
+import seedu.address.model.epiggy.ReportRollups.DayTotals;
+import seedu.address.model.epiggy.ReportRollups.Totals;
+import seedu.address.testutil.epiggy.AllowanceBuilder;
+import seedu.address.testutil.epiggy.BudgetBuilder;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+
+public class ReportRollupsTest {
+
+    private final Expense lunch = new ExpensesBuilder().withCost("5.50").withDate("03/01/2019").build();
+    private final Expense dinner = new ExpensesBuilder().withName("Dinner").withCost("12").withDate("03/01/2019")
+            .build();
+    private final Expense book = new ExpensesBuilder().withName("Book").withCost("20").withDate("28/02/2019")
+            .build();
+    private final Expense oldBook = new ExpensesBuilder().withName("Book").withCost("30").withDate("01/06/2018")
+            .build();
+    private final Allowance allowance = new AllowanceBuilder().withCost("50").withDate("03/01/2019").build();
+    private final Budget budget = new BudgetBuilder().withAmount("100").withDate("03/02/2019").build();
+
+    @Test
+    public void constructor_expensesAndBudgets_totalsOfEachPeriod() {
+        ReportRollups rollups = new ReportRollups(Arrays.asList(lunch, dinner, book, oldBook, allowance),
+                Collections.singletonList(budget));
+
+        DayTotals day = rollups.getDay(LocalDate.of(2019, 1, 3));
+        assertEquals(1750, day.getExpensesInCents());
+        assertEquals(5000, day.getAllowancesInCents());
+        assertEquals(550, day.getMinExpenseInCents());
+        assertEquals(1200, day.getMaxExpenseInCents());
+        assertEquals(1750, day.getExpensesInCentsInHour(getHour(lunch)));
+
+        Totals february = rollups.getMonth(YearMonth.of(2019, 2));
+        assertEquals(2000, february.getExpensesInCents());
+        assertEquals(10000, february.getBudgetsInCents());
+        assertFalse(february.hasAllowances());
+
+        Totals year = rollups.getYear(2019);
+        assertEquals(3750, year.getExpensesInCents());
+        assertEquals(5000, year.getAllowancesInCents());
+        assertEquals(10000, year.getBudgetsInCents());
+        assertEquals(Arrays.asList(2018, 2019), Arrays.asList(rollups.getYears().keySet().toArray()));
+    }
+
+    @Test
+    public void getDay_noExpenseOnDay_emptyTotals() {
+        ReportRollups rollups = new ReportRollups(Collections.singletonList(lunch), Collections.emptyList());
+
+        DayTotals day = rollups.getDay(LocalDate.of(2019, 1, 4));
+        assertFalse(day.hasExpenses());
+        assertEquals(0, day.getExpensesInCents());
+        assertEquals(0, day.getMinExpenseInCents());
+        assertFalse(rollups.getMonth(YearMonth.of(2019, 2)).hasExpenses());
+        assertFalse(rollups.getYear(2020).hasBudgets());
+    }
+
+    @Test
+    public void observe_ePiggyChanged_totalsUpdated() {
+        EPiggy ePiggy = new EPiggy();
+        ReportRollups rollups = ePiggy.getReportRollups();
+        ePiggy.addExpense(lunch);
+        ePiggy.addExpense(dinner);
+        ePiggy.addAllowance(allowance);
+        ePiggy.addBudget(0, budget);
+
+        DayTotals day = rollups.getDay(LocalDate.of(2019, 1, 3));
+        assertEquals(1750, day.getExpensesInCents());
+        assertEquals(1200, day.getMaxExpenseInCents());
+        assertTrue(rollups.getMonth(YearMonth.of(2019, 2)).hasBudgets());
+
+        ePiggy.setExpense(dinner, book);
+        assertEquals(550, day.getExpensesInCents());
+        assertEquals(550, day.getMaxExpenseInCents());
+        assertEquals(2000, rollups.getMonth(YearMonth.of(2019, 2)).getExpensesInCents());
+
+        ePiggy.deleteExpense(lunch);
+        ePiggy.deleteBudgetAtIndex(0);
+        assertFalse(rollups.getDay(LocalDate.of(2019, 1, 3)).hasExpenses());
+        assertEquals(5000, rollups.getDay(LocalDate.of(2019, 1, 3)).getAllowancesInCents());
+        assertFalse(rollups.getYear(2019).hasBudgets());
+
+        ePiggy.setExpenses(Collections.emptyList());
+        assertTrue(rollups.getYears().isEmpty());
+    }
+
+    @Test
+    public void observe_expensesReordered_totalsUnchanged() {
+        EPiggy ePiggy = new EPiggy();
+        ePiggy.setExpenses(Arrays.asList(book, lunch, oldBook));
+        ePiggy.setExpenses(Arrays.asList(oldBook, lunch, book));
+
+        assertEquals(3000, ePiggy.getReportRollups().getYear(2018).getExpensesInCents());
+        assertEquals(2550, ePiggy.getReportRollups().getYear(2019).getExpensesInCents());
+    }
+
+    private static int getHour(Expense expense) {
+        return expense.getDate().toInstant().atZone(ZoneId.systemDefault()).getHour();
+    }
+}
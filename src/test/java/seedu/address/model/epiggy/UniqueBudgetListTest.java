@@ -16,6 +16,7 @@ import static seedu.address.testutil.TypicalBudgets.getMaximumNumberOfBudgets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
@@ -165,6 +166,57 @@ public class UniqueBudgetListTest {
         assertEquals(0, uniqueBudgetList.getBudgetIndexBasedOnDate(date));
     }
 
+    @Test
+    public void getBudgetIndexBasedOnDate_multipleBudgets_success() {
+        uniqueBudgetList.addAtIndex(0, ONE);
+        uniqueBudgetList.addAtIndex(0, TWO);
+        assertEquals(1, uniqueBudgetList.getBudgetIndexBasedOnDate(ONE.getStartDate()));
+        assertEquals(0, uniqueBudgetList.getBudgetIndexBasedOnDate(TWO.getStartDate()));
+
+        uniqueBudgetList.remove(0);
+        assertEquals(0, uniqueBudgetList.getBudgetIndexBasedOnDate(ONE.getStartDate()));
+        assertEquals(-1, uniqueBudgetList.getBudgetIndexBasedOnDate(TWO.getEndDate()));
+    }
+
+    @Test
+    public void getBudgetIndexBasedOnDate_budgetsRemovedAndReplaced_shiftedIndexesFound() {
+        List<Budget> budgetList = getMaximumNumberOfBudgets();
+        uniqueBudgetList.addBudgetList(budgetList);
+        uniqueBudgetList.remove(500);
+        assertEquals(499, uniqueBudgetList.getBudgetIndexBasedOnDate(budgetList.get(499).getStartDate()));
+        assertEquals(500, uniqueBudgetList.getBudgetIndexBasedOnDate(budgetList.get(501).getStartDate()));
+
+        uniqueBudgetList.replaceRange(0, 2, budgetList.subList(0, 1));
+        assertEquals(0, uniqueBudgetList.getBudgetIndexBasedOnDate(budgetList.get(0).getStartDate()));
+        assertEquals(997, uniqueBudgetList.getBudgetIndexBasedOnDate(budgetList.get(999).getStartDate()));
+
+        uniqueBudgetList.addAtIndex(1, budgetList.get(1));
+        uniqueBudgetList.addAtIndex(500, budgetList.get(500));
+        uniqueBudgetList.addAtIndex(0, new BudgetBuilder(budgetList.get(0)).withDate(
+                new Date(budgetList.get(0).getEndDate().getTime() + 24 * 60 * 60 * 1000)).build());
+        // the earliest budget no longer fits in the list
+        assertEquals(-1, uniqueBudgetList.getBudgetIndexBasedOnDate(budgetList.get(999).getStartDate()));
+        assertEquals(999, uniqueBudgetList.getBudgetIndexBasedOnDate(budgetList.get(998).getStartDate()));
+    }
+
+    @Test
+    public void getBudgetIndexBasedOnDate_budgetsNotOrderedByDate_budgetFound() {
+        uniqueBudgetList.addBudgetList(Arrays.asList(ONE, TWO));
+        assertEquals(0, uniqueBudgetList.getBudgetIndexBasedOnDate(ONE.getStartDate()));
+        assertEquals(1, uniqueBudgetList.getBudgetIndexBasedOnDate(TWO.getStartDate()));
+    }
+
+    @Test
+    public void getInsertionIndex_success() {
+        List<Budget> budgetList = getMaximumNumberOfBudgets();
+        Budget latestBudget = budgetList.get(0);
+        Budget earliestBudget = budgetList.get(budgetList.size() - 1);
+        assertEquals(0, UniqueBudgetList.getInsertionIndex(budgetList, latestBudget.getEndDate()));
+        assertEquals(budgetList.size() - 1, UniqueBudgetList.getInsertionIndex(budgetList,
+                earliestBudget.getEndDate()));
+        assertEquals(budgetList.size(), UniqueBudgetList.getInsertionIndex(budgetList, ONE.getStartDate()));
+    }
+
     @Test
     public void getCurrentBudgetIndex_emptyUniqueBudgetList_success() {
         UniqueBudgetList emptyUniqueBudgetList = new UniqueBudgetList();
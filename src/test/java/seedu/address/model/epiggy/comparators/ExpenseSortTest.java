@@ -0,0 +1,110 @@
+package seedu.address.model.epiggy.comparators;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalExpenses;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.comparators.ExpenseSort.Key;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+
+public class ExpenseSortTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Expense lunch = new ExpensesBuilder().withName("lunch").withCost("5").withDate("03/01/2019")
+            .build();
+    private final Expense bigLunch = new ExpensesBuilder().withName("Lunch").withCost("12").withDate("03/01/2019")
+            .build();
+    private final Expense book = new ExpensesBuilder().withName("Book").withCost("5").withDate("28/02/2019")
+            .build();
+
+    @Test
+    public void constructor_repeatedKey_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new ExpenseSort(Key.NAME, Key.COST, Key.NAME);
+    }
+
+    @Test
+    public void constructor_noKeys_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new ExpenseSort();
+    }
+
+    @Test
+    public void sortedOrder_singleKey_sameOrderAsComparator() {
+        assertSameOrder(new ExpenseSort(Key.NAME), new CompareExpenseByName(), getTypicalExpenses());
+        assertSameOrder(new ExpenseSort(Key.COST), new CompareExpenseByCost(), getTypicalExpenses());
+        assertSameOrder(new ExpenseSort(Key.DATE), new CompareExpenseByDate(), getTypicalExpenses());
+    }
+
+    @Test
+    public void sortedOrder_multipleKeys_tiesBrokenByLaterKeys() {
+        List<Expense> expenses = Arrays.asList(lunch, book, bigLunch);
+
+        // names are the same ignoring case, so the larger cost is first
+        assertArrayEquals(new int[] {1, 2, 0}, new ExpenseSort(Key.NAME, Key.COST).sortedOrder(expenses));
+        // costs are the same, so the later date is first
+        assertArrayEquals(new int[] {2, 1, 0}, new ExpenseSort(Key.COST, Key.DATE).sortedOrder(expenses));
+        // equal keys keep their order
+        assertArrayEquals(new int[] {1, 0, 2}, new ExpenseSort(Key.DATE).sortedOrder(expenses));
+    }
+
+    @Test
+    public void sortedOrder_aboveParallelThreshold_sameOrderAsComparator() {
+        Random random = new Random(2103);
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < ExpenseSort.PARALLEL_THRESHOLD + 1; i++) {
+            expenses.add(new ExpensesBuilder().withName("Item " + random.nextInt(100))
+                    .withCost(Integer.toString(random.nextInt(50) + 1)).build());
+        }
+        ExpenseSort sort = new ExpenseSort(Key.NAME, Key.COST);
+        assertSameOrder(sort, sort, expenses);
+    }
+
+    @Test
+    public void compare_multipleKeys_comparedByEachKeyInTurn() {
+        ExpenseSort sort = new ExpenseSort(Key.NAME, Key.COST);
+        assertTrue(sort.compare(bigLunch, lunch) < 0);
+        assertTrue(sort.compare(book, lunch) < 0);
+        assertEquals(0, sort.compare(lunch, new ExpensesBuilder(lunch).withDate("01/01/2018").build()));
+    }
+
+    @Test
+    public void equals() {
+        ExpenseSort sort = new ExpenseSort(Key.DATE, Key.COST);
+
+        assertTrue(sort.equals(new ExpenseSort(Key.DATE, Key.COST)));
+        assertTrue(sort.equals(sort));
+        assertFalse(sort.equals(null));
+        assertFalse(sort.equals(new ExpenseSort(Key.COST, Key.DATE)));
+        assertFalse(sort.equals(new CompareExpenseByDate()));
+    }
+
+    /**
+     * Asserts that {@code sort} orders {@code expenses} the same way as a stable sort by {@code comparator}.
+     */
+    private static void assertSameOrder(ExpenseSort sort, Comparator<Expense> comparator, List<Expense> expenses) {
+        List<Expense> expected = new ArrayList<>(expenses);
+        Collections.sort(expected, comparator);
+
+        List<Expense> actual = new ArrayList<>();
+        for (int index : sort.sortedOrder(expenses)) {
+            actual.add(expenses.get(index));
+        }
+        assertEquals(expected, actual);
+    }
+}
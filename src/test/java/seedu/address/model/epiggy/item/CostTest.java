@@ -2,6 +2,7 @@ package seedu.address.model.epiggy.item;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +38,28 @@ class CostTest {
         assertThrows(IllegalArgumentException.class, () -> new Cost("1000000"));
         assertThrows(IllegalArgumentException.class, () -> new Cost("a"));
     }
+
+    @Test
+    public void add_manyAmounts_exactTotal() {
+        Cost total = Cost.fromCents(0);
+        for (int i = 0; i < 1000; i++) {
+            total = total.add(new Cost("0.10"));
+        }
+        assertEquals(Cost.fromCents(10000), total);
+        assertEquals(Cost.fromCents(-10), new Cost("0.20").deduct(new Cost("0.30")));
+    }
+
+    @Test
+    public void compareTo() {
+        assertTrue(new Cost("0.01").compareTo(new Cost("0.02")) < 0);
+        assertTrue(new Cost("2").compareTo(new Cost("1.99")) > 0);
+        assertEquals(0, new Cost("1.50").compareTo(new Cost(1.5)));
+    }
+
+    @Test
+    public void toString_formatsTwoDecimalPlaces() {
+        assertEquals("0.05", Cost.fromCents(5).toString());
+        assertEquals("12.30", new Cost("12.3").toString());
+        assertEquals("-0.10", new Cost("0.20").deduct(new Cost("0.30")).toString());
+    }
 }
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.epiggy.TypicalExpenses.DUMPLING_SOUP;
+import static seedu.address.testutil.epiggy.TypicalExpenses.KFC;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.EPiggy;
+import seedu.address.model.EPiggyChangeRecorder;
+import seedu.address.model.EPiggyChanges;
+import seedu.address.model.ReadOnlyEPiggy;
+import seedu.address.storage.epiggy.EPiggyStorage;
+
+public class AsyncEPiggySaverTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final EPiggyStorageStub storage = new EPiggyStorageStub();
+    private final AsyncEPiggySaver saver = new AsyncEPiggySaver(storage, Runnable::run);
+    private final EPiggy ePiggy = new EPiggy();
+    private final EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(ePiggy);
+
+    @Test
+    public void requestSave_whileSaving_laterChangesSavedTogether() throws Exception {
+        saver.start(ePiggy);
+        storage.blockSaves();
+
+        ePiggy.addExpense(KFC);
+        saver.requestSave(recorder.takeChanges());
+        storage.awaitSaveStarted();
+        ePiggy.addExpense(DUMPLING_SOUP);
+        saver.requestSave(recorder.takeChanges());
+        ePiggy.deleteExpense(KFC);
+        saver.requestSave(recorder.takeChanges());
+        storage.unblockSaves();
+        saver.flush();
+
+        assertEquals(Arrays.asList(1, 2), storage.savedChangeCounts);
+        assertEquals(Collections.singletonList(KFC), storage.saved.get(0).getExpenseList());
+        assertEquals(ePiggy, storage.saved.get(1));
+    }
+
+    @Test
+    public void requestSave_notStarted_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        saver.requestSave(recorder.takeChanges());
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_failureListenerNotified() {
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        saver.addFailureListener(failures::add);
+        saver.start(ePiggy);
+        storage.failSaves = true;
+
+        ePiggy.addExpense(KFC);
+        saver.requestSave(recorder.takeChanges());
+        saver.flush();
+
+        assertEquals(1, failures.size());
+        assertTrue(storage.saved.isEmpty());
+    }
+
+    @Test
+    public void shutdown_latestSaveFailed_wholeDataSaved() throws Exception {
+        saver.start(ePiggy);
+        storage.failSaves = true;
+        ePiggy.addExpense(KFC);
+        saver.requestSave(recorder.takeChanges());
+        saver.flush();
+
+        storage.failSaves = false;
+        saver.shutdown();
+        assertEquals(Collections.singletonList(ePiggy), storage.saved);
+        assertEquals(Collections.singletonList(0), storage.savedChangeCounts);
+    }
+
+    /**
+     * A storage which records a copy of the data it saves, and the number of changes saved with it, which is 0 if
+     * the whole data is saved. It can be made to fail or wait before saving.
+     */
+    private static class EPiggyStorageStub implements EPiggyStorage {
+        private final List<EPiggy> saved = Collections.synchronizedList(new ArrayList<>());
+        private final List<Integer> savedChangeCounts = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private volatile CountDownLatch saveAllowed = new CountDownLatch(0);
+        private volatile boolean failSaves;
+
+        void blockSaves() {
+            saveAllowed = new CountDownLatch(1);
+        }
+
+        void unblockSaves() {
+            saveAllowed.countDown();
+        }
+
+        void awaitSaveStarted() throws InterruptedException {
+            saveStarted.await();
+        }
+
+        @Override
+        public Path getEPiggyFilePath() {
+            return Paths.get("stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyEPiggy> readEPiggy() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyEPiggy> readEPiggy(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveEPiggy(ReadOnlyEPiggy ePiggy) throws IOException {
+            save(ePiggy, 0);
+        }
+
+        @Override
+        public void saveEPiggy(ReadOnlyEPiggy ePiggy, Path filePath) throws IOException {
+            saveEPiggy(ePiggy);
+        }
+
+        @Override
+        public void saveEPiggyChanges(ReadOnlyEPiggy ePiggy, List<EPiggyChanges> changes) throws IOException {
+            save(ePiggy, changes.size());
+        }
+
+        /**
+         * Records a copy of {@code ePiggy} saved with {@code changeCount} changes, once saves are allowed.
+         */
+        private void save(ReadOnlyEPiggy ePiggy, int changeCount) throws IOException {
+            saveStarted.countDown();
+            try {
+                saveAllowed.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failSaves) {
+                throw new IOException("dummy exception");
+            }
+            saved.add(new EPiggy(ePiggy));
+            savedChangeCounts.add(changeCount);
+        }
+
+        @Override
+        public void backupEPiggy(ReadOnlyEPiggy ePiggy) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
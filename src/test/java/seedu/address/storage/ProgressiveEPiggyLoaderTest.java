@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalExpenses;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.EPiggy;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.storage.epiggy.PartialEPiggy;
+
+public class ProgressiveEPiggyLoaderTest {
+
+    private static final int OLDER_EXPENSE_COUNT = 5;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<Expense> expenses = getTypicalExpenses();
+
+    /**
+     * Returns a {@code PartialEPiggy} with the first {@code OLDER_EXPENSE_COUNT} typical expenses as its older
+     * expenses, and the rest as its recent expenses.
+     */
+    private PartialEPiggy getPartialEPiggy() {
+        EPiggy recentData = new EPiggy();
+        expenses.subList(OLDER_EXPENSE_COUNT, expenses.size()).forEach(recentData::addExpense);
+        return new PartialEPiggy(recentData, OLDER_EXPENSE_COUNT, consumer ->
+                expenses.subList(0, OLDER_EXPENSE_COUNT).forEach(consumer));
+    }
+
+    @Test
+    public void start_batchesInsertedThroughExecutor_olderExpensesBeforeRecentExpenses() throws Exception {
+        PartialEPiggy data = getPartialEPiggy();
+        Model model = new ModelManager(data.getRecentData(), new UserPrefs());
+        ProgressiveEPiggyLoader loader = new ProgressiveEPiggyLoader(model, data, Runnable::run);
+
+        loader.start();
+        loader.awaitFullData();
+        assertEquals(expenses, model.getFilteredExpenseList());
+
+        // loading the older expenses is not a change which can be undone
+        assertFalse(model.canUndoEPiggy());
+    }
+
+    @Test
+    public void awaitFullData_batchesNotInsertedYet_batchesInsertedOnCallingThread() throws Exception {
+        PartialEPiggy data = getPartialEPiggy();
+        Model model = new ModelManager(data.getRecentData(), new UserPrefs());
+        ProgressiveEPiggyLoader loader = new ProgressiveEPiggyLoader(model, data, task -> { });
+
+        loader.start();
+        loader.awaitFullData();
+        assertEquals(expenses, model.getFilteredExpenseList());
+    }
+
+    @Test
+    public void awaitFullData_olderExpensesCannotBeRead_throwsDataConversionException() throws Exception {
+        PartialEPiggy data = new PartialEPiggy(new EPiggy(), 1, consumer -> {
+            throw new IOException("dummy exception");
+        });
+        ProgressiveEPiggyLoader loader = new ProgressiveEPiggyLoader(new ModelManager(), data, Runnable::run);
+
+        loader.start();
+        thrown.expect(DataConversionException.class);
+        loader.awaitFullData();
+    }
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage.epiggy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalEPiggy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.EPiggy;
+import seedu.address.model.ReadOnlyEPiggy;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.model.epiggy.item.Name;
+import seedu.address.testutil.epiggy.AllowanceBuilder;
+import seedu.address.testutil.epiggy.BudgetBuilder;
+import seedu.address.testutil.epiggy.PartialEPiggyUtil;
+
+public class BinaryEPiggyStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    private EPiggy getEPiggyWithEverything() {
+        EPiggy ePiggy = getTypicalEPiggy();
+        ePiggy.addAllowance(new AllowanceBuilder().build());
+        ePiggy.addBudget(0, new BudgetBuilder().build());
+        ePiggy.setGoal(new Goal(new Name("Holiday"), new Cost("1500")));
+        return ePiggy;
+    }
+
+    private void assertSameData(ReadOnlyEPiggy expected, ReadOnlyEPiggy actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getBudgetList(), actual.getBudgetList());
+        assertEquals(expected.getGoal().get(), actual.getGoal().get());
+    }
+
+    @Test
+    public void readEPiggy_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryEPiggyStorage(getTempFilePath("none.epiggy")).readEPiggy().isPresent());
+    }
+
+    @Test
+    public void saveAndRead_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath("ePiggy.epiggy");
+        BinaryEPiggyStorage storage = new BinaryEPiggyStorage(filePath);
+        EPiggy original = getEPiggyWithEverything();
+
+        storage.saveEPiggy(original);
+        assertSameData(original, storage.readEPiggy().get());
+
+        // the binary file is smaller than the json file
+        Path jsonFilePath = getTempFilePath("ePiggy.json");
+        JsonEPiggyStream.write(original, jsonFilePath);
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readEPiggy_onlyJsonFileExists_jsonFileRead() throws Exception {
+        EPiggy original = getEPiggyWithEverything();
+        JsonEPiggyStream.write(original, getTempFilePath("ePiggy.json"));
+
+        Path filePath = getTempFilePath("ePiggy.epiggy");
+        assertSameData(original, new BinaryEPiggyStorage(filePath).readEPiggy().get());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void importAndExport_jsonFile_sameData() throws Exception {
+        EPiggy original = getEPiggyWithEverything();
+        Path jsonFilePath = getTempFilePath("in.json");
+        Path binaryFilePath = getTempFilePath("ePiggy.epiggy");
+        Path exportedFilePath = getTempFilePath("out.json");
+        JsonEPiggyStream.write(original, jsonFilePath);
+
+        BinaryEPiggyStorage.importFromJson(jsonFilePath, binaryFilePath);
+        BinaryEPiggyStorage.exportToJson(binaryFilePath, exportedFilePath);
+
+        assertSameData(original, new BinaryEPiggyStorage(binaryFilePath).readEPiggy().get());
+        assertSameData(original, JsonEPiggyStream.read(exportedFilePath).get());
+    }
+
+    @Test
+    public void readEPiggy_notBinaryFormat_throwDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ePiggy.epiggy");
+        JsonEPiggyStream.write(getTypicalEPiggy(), filePath);
+
+        thrown.expect(DataConversionException.class);
+        new BinaryEPiggyStorage(filePath).readEPiggy();
+    }
+
+    @Test
+    public void readEPiggy_truncatedFile_throwDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("ePiggy.epiggy");
+        new BinaryEPiggyStorage(filePath).saveEPiggy(getEPiggyWithEverything());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryEPiggyStorage(filePath).readEPiggy();
+    }
+
+    @Test
+    public void readEPiggyInParts_olderRecordsSkipped_sameData() throws Exception {
+        Path filePath = getTempFilePath("ePiggy.epiggy");
+        BinaryEPiggyStorage storage = new BinaryEPiggyStorage(filePath);
+        EPiggy original = getEPiggyWithEverything();
+        storage.saveEPiggy(original);
+
+        PartialEPiggy parts = storage.readEPiggyInParts(2).get();
+        List<Expense> expenses = original.getExpenseList();
+        assertEquals(expenses.size() - 2, parts.getOlderExpenseCount());
+        assertEquals(expenses.subList(expenses.size() - 2, expenses.size()), parts.getRecentData().getExpenseList());
+        assertSameData(original, PartialEPiggyUtil.readAll(parts, 3));
+    }
+
+    @Test
+    public void toJsonFilePath_binaryFile_jsonSibling() {
+        assertEquals(getTempFilePath("ePiggy.json"),
+                BinaryEPiggyStorage.toJsonFilePath(getTempFilePath("ePiggy.epiggy")));
+    }
+}
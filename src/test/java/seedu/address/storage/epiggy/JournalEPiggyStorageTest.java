@@ -0,0 +1,229 @@
+package seedu.address.storage.epiggy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalBudgets.ONE;
+import static seedu.address.testutil.TypicalBudgets.TWO;
+import static seedu.address.testutil.epiggy.TypicalExpenses.DUMPLING_SOUP;
+import static seedu.address.testutil.epiggy.TypicalExpenses.KFC;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalEPiggy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.EPiggy;
+import seedu.address.model.EPiggyChangeRecorder;
+import seedu.address.model.ReadOnlyEPiggy;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.model.epiggy.item.Name;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+import seedu.address.testutil.epiggy.PartialEPiggyUtil;
+
+public class JournalEPiggyStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(testFolder.getRoot().toPath().resolve("none.json"));
+        assertFalse(storage.readEPiggy().isPresent());
+    }
+
+    @Test
+    public void saveEPiggyChanges_changesAfterSnapshot_appendedToJournal() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(filePath);
+        EPiggy original = getTypicalEPiggy();
+
+        // saving the whole epiggy writes a snapshot
+        storage.saveEPiggy(original);
+        String snapshot = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        // saving changes only appends to the journal
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(original);
+        original.addExpense(new ExpensesBuilder().withName("Laksa").build());
+        original.deleteExpense(DUMPLING_SOUP);
+        original.setExpense(KFC, new ExpensesBuilder(KFC).withCost("12.30").build());
+        saveChanges(storage, original, recorder);
+        original.setGoal(new Goal(new Name("Holiday"), new Cost("1500")));
+        saveChanges(storage, original, recorder);
+        saveChanges(storage, original, recorder); // unchanged, nothing appended
+
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveEPiggyChanges_expenseAddedWithinBudget_onlyExpenseJournaled() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(filePath);
+        EPiggy original = getTypicalEPiggy();
+        storage.saveEPiggy(original);
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(original);
+        original.addBudget(0, ONE);
+        original.addBudget(1, TWO);
+        saveChanges(storage, original, recorder);
+
+        original.addExpense(new ExpensesBuilder().withName("Laksa").withDate("05/02/2019").build());
+        saveChanges(storage, original, recorder);
+        List<String> records = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(2, records.size());
+        assertTrue(records.get(1).contains("\"budgets\":null"));
+
+        // the remaining amounts of the budgets are computed again when the journal is replayed
+        ReadOnlyEPiggy readBack = new JournalEPiggyStorage(filePath).readEPiggy().get();
+        assertEquals(original.getBudgetList(), readBack.getBudgetList());
+        for (int i = 0; i < original.getBudgetList().size(); i++) {
+            assertEquals(original.getBudgetList().get(i).getRemainingAmount(),
+                    readBack.getBudgetList().get(i).getRemainingAmount());
+        }
+
+        // a budget edited later is journaled by its index alone
+        original.deleteBudgetAtIndex(1);
+        saveChanges(storage, original, recorder);
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveEPiggyChanges_compactionThresholdReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(filePath);
+        EPiggy original = new EPiggy();
+        storage.saveEPiggy(original);
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(original);
+
+        for (int i = 0; i < JournalEPiggyStorage.COMPACTION_THRESHOLD; i++) {
+            original.addExpense(new ExpensesBuilder().withName("Expense " + i).build());
+            saveChanges(storage, original, recorder);
+        }
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        original.addExpense(new ExpensesBuilder().withName("Compacted").build());
+        saveChanges(storage, original, recorder);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void readEPiggy_partlyWrittenLastRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(filePath);
+        EPiggy original = getTypicalEPiggy();
+        storage.saveEPiggy(original);
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(original);
+        original.deleteExpense(KFC);
+        saveChanges(storage, original, recorder);
+
+        Files.write(storage.getJournalFilePath(), "{\"size\":7,\"fr".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void saveEPiggyChanges_journalReadUpToBadRecord_snapshotWritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(filePath);
+        EPiggy original = getTypicalEPiggy();
+        storage.saveEPiggy(original);
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(original);
+        original.deleteExpense(KFC);
+        saveChanges(storage, original, recorder);
+        Files.write(storage.getJournalFilePath(), "{\"size\":7,\"fr".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        // the next changes are not appended after the bad record, where they would not be read back
+        JournalEPiggyStorage reopenedStorage = new JournalEPiggyStorage(filePath);
+        EPiggy readBack = new EPiggy(reopenedStorage.readEPiggy().get());
+        assertEquals(original, readBack);
+        EPiggyChangeRecorder readBackRecorder = new EPiggyChangeRecorder(readBack);
+        readBack.addExpense(new ExpensesBuilder().withName("Laksa").build());
+        saveChanges(reopenedStorage, readBack, readBackRecorder);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertReadBackEquals(readBack, filePath);
+    }
+
+    @Test
+    public void readEPiggy_journalLeftFromCompactedSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(filePath);
+        EPiggy original = getTypicalEPiggy();
+        storage.saveEPiggy(original);
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(original);
+        Expense editedKfc = new ExpensesBuilder(KFC).withCost("12.30").build();
+        original.setExpense(KFC, editedKfc);
+        saveChanges(storage, original, recorder);
+        byte[] compactedJournal = Files.readAllBytes(storage.getJournalFilePath());
+
+        // the journal is left behind as if the app stopped after the new snapshot was written
+        original.setExpense(editedKfc, new ExpensesBuilder(KFC).withCost("20").build());
+        storage.saveEPiggy(original);
+        Files.write(storage.getJournalFilePath(), compactedJournal);
+
+        assertReadBackEquals(original, filePath);
+    }
+
+    @Test
+    public void readEPiggyInParts_journalChangesRecentExpenses_olderExpensesBeforeChanges() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(filePath);
+        EPiggy original = getTypicalEPiggy();
+        storage.saveEPiggy(original);
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(original);
+        int kfcIndex = original.getExpenseList().indexOf(KFC);
+        original.setExpense(KFC, new ExpensesBuilder(KFC).withCost("12.30").build());
+        original.addExpense(new ExpensesBuilder().withName("Laksa").build());
+        saveChanges(storage, original, recorder);
+
+        // only the expenses before the edited KFC expense are left to be read later
+        PartialEPiggy parts = new JournalEPiggyStorage(filePath).readEPiggyInParts(1).get();
+        assertEquals(kfcIndex, parts.getOlderExpenseCount());
+        assertEquals(original, PartialEPiggyUtil.readAll(parts, 2));
+    }
+
+    @Test
+    public void readEPiggyInParts_journalChangesFirstExpense_noOlderExpenses() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        JournalEPiggyStorage storage = new JournalEPiggyStorage(filePath);
+        EPiggy original = getTypicalEPiggy();
+        storage.saveEPiggy(original);
+        EPiggyChangeRecorder recorder = new EPiggyChangeRecorder(original);
+        original.deleteExpense(DUMPLING_SOUP);
+        saveChanges(storage, original, recorder);
+
+        PartialEPiggy parts = new JournalEPiggyStorage(filePath).readEPiggyInParts(1).get();
+        assertEquals(0, parts.getOlderExpenseCount());
+        assertEquals(original, new EPiggy(parts.getRecentData()));
+    }
+
+    /**
+     * Saves the changes recorded by {@code recorder} since they were last taken to {@code storage}.
+     */
+    private void saveChanges(JournalEPiggyStorage storage, EPiggy ePiggy, EPiggyChangeRecorder recorder)
+            throws Exception {
+        storage.saveEPiggyChanges(ePiggy, Collections.singletonList(recorder.takeChanges()));
+    }
+
+    /**
+     * Asserts that a new storage reads back {@code expected} from {@code filePath} and its journal.
+     */
+    private void assertReadBackEquals(EPiggy expected, Path filePath) throws Exception {
+        ReadOnlyEPiggy readBack = new JournalEPiggyStorage(filePath).readEPiggy().get();
+        assertEquals(expected, new EPiggy(readBack));
+        assertEquals(expected.getGoal().get(), readBack.getGoal().get());
+    }
+}
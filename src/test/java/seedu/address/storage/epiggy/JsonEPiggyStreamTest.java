@@ -0,0 +1,131 @@
+package seedu.address.storage.epiggy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.epiggy.TypicalExpenses.getTypicalEPiggy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.EPiggy;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.Goal;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.model.epiggy.item.Name;
+import seedu.address.storage.ProgressiveEPiggyLoader;
+import seedu.address.testutil.epiggy.AllowanceBuilder;
+import seedu.address.testutil.epiggy.BudgetBuilder;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+import seedu.address.testutil.epiggy.PartialEPiggyUtil;
+
+public class JsonEPiggyStreamTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonEPiggyStream.read(testFolder.getRoot().toPath().resolve("none.json")).isPresent());
+    }
+
+    @Test
+    public void writeAndRead_typicalEPiggy_sameEPiggy() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        EPiggy original = getTypicalEPiggy();
+        original.addAllowance(new AllowanceBuilder().build());
+        original.addBudget(0, new BudgetBuilder().build());
+        original.setGoal(new Goal(new Name("Holiday"), new Cost("1500")));
+
+        JsonEPiggyStream.write(original, filePath);
+        EPiggy readBack = JsonEPiggyStream.read(filePath).get();
+        assertEquals(original, readBack);
+        assertEquals(original.getBudgetList(), readBack.getBudgetList());
+        assertEquals(original.getGoal().get(), readBack.getGoal().get());
+
+        // the file is in the same format as JsonSerializableEPiggy
+        EPiggy readByJsonSerializable = JsonUtil.readJsonFile(filePath, JsonSerializableEPiggy.class).get()
+                .toModelType();
+        assertEquals(original, readByJsonSerializable);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableEPiggy(original)),
+                new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readJournalId_writtenWithJournalId_sameJournalIdAndEPiggy() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        EPiggy original = getTypicalEPiggy();
+
+        JsonEPiggyStream.write(original, filePath, "journal-1");
+        assertEquals(Optional.of("journal-1"), JsonEPiggyStream.readJournalId(filePath));
+        assertEquals(original, JsonEPiggyStream.read(filePath).get());
+
+        JsonEPiggyStream.write(original, filePath);
+        assertFalse(JsonEPiggyStream.readJournalId(filePath).isPresent());
+    }
+
+    @Test
+    public void read_missingFields_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        Files.write(filePath, "{ \"expenses\" : [ ] }".getBytes(StandardCharsets.UTF_8));
+        thrown.expect(DataConversionException.class);
+        JsonEPiggyStream.read(filePath);
+    }
+
+    @Test
+    public void readInParts_typicalEPiggy_recentExpensesReadFirst() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        EPiggy original = getTypicalEPiggy();
+        original.addBudget(0, new BudgetBuilder().withDate("20/04/2019").build());
+        original.setGoal(new Goal(new Name("Holiday"), new Cost("1500")));
+        JsonEPiggyStream.write(original, filePath);
+
+        PartialEPiggy parts = JsonEPiggyStream.readInParts(filePath, total -> total - 3).get();
+        List<Expense> expenses = original.getExpenseList();
+        assertEquals(expenses.size() - 3, parts.getOlderExpenseCount());
+        assertEquals(expenses.subList(expenses.size() - 3, expenses.size()), parts.getRecentData().getExpenseList());
+        assertEquals(original.getGoal().get(), parts.getRecentData().getGoal().get());
+
+        EPiggy readBack = PartialEPiggyUtil.readAll(parts, 2);
+        assertEquals(original, readBack);
+        assertEquals(original.getBudgetList().get(0).getRemainingAmount(),
+                readBack.getBudgetList().get(0).getRemainingAmount());
+    }
+
+    @Test
+    public void readInParts_fewerExpensesThanRecentCount_noOlderExpenses() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        EPiggy original = getTypicalEPiggy();
+        JsonEPiggyStream.write(original, filePath);
+
+        PartialEPiggy parts = JsonEPiggyStream.readInParts(filePath, total -> total - 100).get();
+        assertEquals(0, parts.getOlderExpenseCount());
+        assertEquals(original, new EPiggy(parts.getRecentData()));
+    }
+
+    @Test
+    public void readInParts_moreExpensesThanDecodeChunk_allExpensesReadInOrder() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("ePiggy.json");
+        EPiggy original = new EPiggy();
+        for (int i = 0; i < JsonEPiggyStream.DECODE_CHUNK_SIZE * 2 + 5; i++) {
+            original.addExpense(new ExpensesBuilder().withCost(String.valueOf(i % 1000 + 1)).build());
+        }
+        JsonEPiggyStream.write(original, filePath);
+
+        PartialEPiggy parts = JsonEPiggyStream.readInParts(filePath, total -> total - 10).get();
+        assertEquals(original, PartialEPiggyUtil.readAll(parts, ProgressiveEPiggyLoader.BATCH_SIZE));
+        assertEquals(original, JsonEPiggyStream.read(filePath).get());
+    }
+}
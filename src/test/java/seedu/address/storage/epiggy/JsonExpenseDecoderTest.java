@@ -0,0 +1,106 @@
+package seedu.address.storage.epiggy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.storage.epiggy.JsonExpenseDecoder.MESSAGE_INVALID_RECORD;
+import static seedu.address.storage.epiggy.JsonExpenseDecoder.MESSAGE_INVALID_RECORDS;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.epiggy.Allowance;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.item.Cost;
+import seedu.address.testutil.epiggy.AllowanceBuilder;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+
+public class JsonExpenseDecoderTest {
+
+    private static final int RECORD_COUNT = JsonExpenseDecoder.MIN_RECORDS_PER_TASK * 8 + 3;
+    private static final String INVALID_COST = "10.12345";
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final JsonExpenseDecoder decoder = new JsonExpenseDecoder(pool);
+
+    @After
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    /**
+     * Returns {@code RECORD_COUNT} expenses with different costs, with every third expense an allowance.
+     */
+    private List<Expense> getExpenses() {
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            String cost = String.valueOf(i % 1000 + 1);
+            expenses.add(i % 3 == 0
+                    ? new AllowanceBuilder().withCost(cost).build()
+                    : new ExpensesBuilder().withCost(cost).build());
+        }
+        return expenses;
+    }
+
+    private static JsonAdaptedExpense withInvalidCost(Expense expense) {
+        return new JsonAdaptedExpense(expense.getItem().getName().name, INVALID_COST, "01/02/2019", "expense",
+                Collections.emptyList());
+    }
+
+    @Test
+    public void decode_manyRecords_expensesInOrder() throws Exception {
+        List<Expense> expenses = getExpenses();
+        List<JsonAdaptedExpense> records = new ArrayList<>();
+        expenses.forEach(expense -> records.add(new JsonAdaptedExpense(expense)));
+
+        List<Expense> decoded = decoder.decode(records, 0);
+        assertEquals(expenses, decoded);
+        for (int i = 0; i < expenses.size(); i++) {
+            assertEquals(expenses.get(i) instanceof Allowance, decoded.get(i) instanceof Allowance);
+        }
+    }
+
+    @Test
+    public void decode_noRecords_returnsEmptyList() throws Exception {
+        assertEquals(Collections.emptyList(), decoder.decode(Collections.emptyList(), 0));
+    }
+
+    @Test
+    public void decode_invalidRecords_errorsReportedWithIndexes() {
+        List<Expense> expenses = getExpenses();
+        List<JsonAdaptedExpense> records = new ArrayList<>();
+        expenses.forEach(expense -> records.add(new JsonAdaptedExpense(expense)));
+        records.set(5, withInvalidCost(expenses.get(5)));
+        records.set(RECORD_COUNT - 1, withInvalidCost(expenses.get(RECORD_COUNT - 1)));
+
+        try {
+            decoder.decode(records, 100);
+            fail("The invalid records should have been reported");
+        } catch (IllegalValueException e) {
+            assertEquals(String.format(MESSAGE_INVALID_RECORDS, 2)
+                    + String.format(MESSAGE_INVALID_RECORD, 105, Cost.MESSAGE_CONSTRAINTS)
+                    + String.format(MESSAGE_INVALID_RECORD, 100 + RECORD_COUNT - 1, Cost.MESSAGE_CONSTRAINTS),
+                    e.getMessage());
+        }
+    }
+
+    @Test
+    public void decode_manyInvalidRecords_onlyFirstErrorsDescribed() {
+        List<JsonAdaptedExpense> records = new ArrayList<>();
+        getExpenses().forEach(expense -> records.add(withInvalidCost(expense)));
+
+        try {
+            decoder.decode(records, 0);
+            fail("The invalid records should have been reported");
+        } catch (IllegalValueException e) {
+            assertTrue(e.getMessage().startsWith(String.format(MESSAGE_INVALID_RECORDS, RECORD_COUNT)));
+            assertEquals(JsonExpenseDecoder.MAX_REPORTED_ERRORS, e.getMessage().split("\n").length - 1);
+        }
+    }
+}
@@ -6,9 +6,11 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_DATE_FIRSTEXTRA
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DATE_SECONDEXTRA;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PERIOD_FIRSTEXTRA;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PERIOD_SECONDEXTRA;
+import static seedu.address.model.epiggy.UniqueBudgetList.MAXIMUM_SIZE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Calendar;
 import java.util.List;
 
 import seedu.address.model.EPiggy;
@@ -92,8 +94,19 @@ public class TypicalBudgets {
         return new ArrayList<>(Arrays.asList(ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT, NINE));
     }
 
+    /**
+     * Returns {@code UniqueBudgetList#MAXIMUM_SIZE} consecutive one day budgets, ordered from the latest to the
+     * earliest, with the earliest budget being {@code TEN}.
+     */
     public static List<Budget> getMaximumNumberOfBudgets() {
-        return new ArrayList<>(Arrays.asList(ONE, TWO, THREE, FOUR, FIVE, SIX, SEVEN, EIGHT, NINE, TEN, ELEVEN,
-                TWELVE, THIRTEEN, FOURTEEN, FIFTEEN, SIXTEEN, SEVENTEEN, EIGHTEEN, NINETEEN, TWENTY));
+        List<Budget> budgets = new ArrayList<>();
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTime(TEN.getStartDate());
+        calendar.add(Calendar.DAY_OF_MONTH, MAXIMUM_SIZE - 1);
+        for (int i = 0; i < MAXIMUM_SIZE; i++) {
+            budgets.add(new BudgetBuilder(TEN).withDate(calendar.getTime()).build());
+            calendar.add(Calendar.DAY_OF_MONTH, -1);
+        }
+        return budgets;
     }
 }
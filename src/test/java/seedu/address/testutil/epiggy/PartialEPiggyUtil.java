@@ -0,0 +1,27 @@
+package seedu.address.testutil.epiggy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.EPiggy;
+import seedu.address.model.epiggy.Expense;
+import seedu.address.storage.epiggy.PartialEPiggy;
+
+/**
+ * A utility class for PartialEPiggy.
+ */
+public class PartialEPiggyUtil {
+
+    /**
+     * Returns an {@code EPiggy} with the recent data of {@code parts}, and its older expenses read in batches of
+     * {@code batchSize} before the recent expenses.
+     */
+    public static EPiggy readAll(PartialEPiggy parts, int batchSize) throws DataConversionException {
+        EPiggy ePiggy = new EPiggy(parts.getRecentData());
+        List<Expense> olderExpenses = new ArrayList<>();
+        parts.readOlderExpenses(batchSize, olderExpenses::addAll);
+        ePiggy.addOlderExpenses(0, olderExpenses);
+        return ePiggy;
+    }
+}
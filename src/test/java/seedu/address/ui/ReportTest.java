@@ -0,0 +1,75 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.model.epiggy.Expense;
+import seedu.address.model.epiggy.ReportRollups;
+import seedu.address.testutil.epiggy.AllowanceBuilder;
+import seedu.address.testutil.epiggy.BudgetBuilder;
+import seedu.address.testutil.epiggy.ExpensesBuilder;
+
+public class ReportTest {
+
+    private final Expense lunch = new ExpensesBuilder().withCost("5.50").withDate("03/01/2019").build();
+    private final Expense book = new ExpensesBuilder().withName("Book").withCost("20").withDate("28/02/2019")
+            .build();
+    private final Expense oldBook = new ExpensesBuilder().withName("Book").withCost("30").withDate("01/06/2018")
+            .build();
+    private final ReportRollups rollups = new ReportRollups(Arrays.asList(lunch, book, oldBook,
+            new AllowanceBuilder().withCost("50").withDate("03/01/2019").build()),
+            Collections.singletonList(new BudgetBuilder().withAmount("100").withDate("03/02/2019").build()));
+
+    @Test
+    public void of_month_pointForEachDay() {
+        Report report = Report.of(Report.DisplayType.MONTH, rollups, LocalDate.of(2019, 2, 14));
+
+        assertTrue(report.hasRecords());
+        assertEquals("Report for month: February 2019", report.getTitle());
+        assertEquals(31, report.getCategories().size());
+        Report.Series expenses = report.getSeries().get(0);
+        assertEquals("Expense", expenses.getName());
+        assertEquals(20.0, expenses.getValue(27), 0);
+        assertEquals(0.0, expenses.getValue(28), 0);
+        assertEquals("The total amount of expense on this month: S$20.00", report.getSummary().get(0));
+        assertEquals("The highest expense record is S$20.00 at 28 Feb 2019", report.getSummary().get(3));
+    }
+
+    @Test
+    public void of_year_pointForEachMonth() {
+        Report report = Report.of(Report.DisplayType.YEAR, rollups, LocalDate.of(2019, 1, 1));
+
+        assertEquals(12, report.getCategories().size());
+        assertEquals("Budget", report.getSeries().get(0).getName());
+        assertEquals(100.0, report.getSeries().get(0).getValue(1), 0);
+        assertEquals(5.5, report.getSeries().get(1).getValue(0), 0);
+        assertEquals(50.0, report.getSeries().get(2).getValue(0), 0);
+        assertEquals(2550, report.getTotalExpensesInCents());
+    }
+
+    @Test
+    public void of_all_pointForEachYear() {
+        Report report = Report.of(Report.DisplayType.ALL, rollups, null);
+
+        assertEquals(Arrays.asList("2018", "2019"), report.getCategories());
+        assertEquals(5550, report.getTotalExpensesInCents());
+        assertEquals("2018 is the most consumed year. The highest expense record is S$30.00",
+                report.getSummary().get(4));
+    }
+
+    @Test
+    public void of_dayWithoutExpenses_noRecords() {
+        Report report = Report.of(Report.DisplayType.DAY, rollups, LocalDate.of(2019, 1, 4));
+
+        assertFalse(report.hasRecords());
+        assertEquals(Collections.singletonList(Report.MESSAGE_NO_RECORDS), report.getSummary());
+        assertEquals(0, report.getSeries().get(0).size());
+    }
+}
@@ -8,46 +8,38 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 
 import org.junit.Test;
 
-import seedu.address.logic.commands.RedoCommand;
-import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.epiggy.DeleteExpenseCommand;
 import seedu.address.logic.commands.epiggy.ReverseListCommand;
 import seedu.address.logic.commands.epiggy.SortCommand;
 import seedu.address.model.Model;
 import seedu.address.model.epiggy.Expense;
-import seedu.address.model.epiggy.comparators.CompareExpenseByCost;
-import seedu.address.model.epiggy.comparators.CompareExpenseByDate;
-import seedu.address.model.epiggy.comparators.CompareExpenseByName;
+import seedu.address.model.epiggy.comparators.ExpenseSort;
+import seedu.address.model.epiggy.comparators.ExpenseSort.Key;
 
 public class SortCommandSystemTest extends EPiggySystemTestWithDefaultData {
 
     private String expectedMessage;
     @Test
     public void sort() {
-        Model defaultModel = getModel();
         Model expectedModel = getModel();
         String command;
         String expectedResultMessage;
         /* Case: sort list by name with default ordering (ascending) -> sorted */
         command = SortCommand.COMMAND_WORD + " " + PREFIX_NAME;
         expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
-        expectedModel.sortExpenses(new CompareExpenseByName());
+        expectedModel.sortExpenses(new ExpenseSort(Key.NAME));
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
 
-        /* Case: Undo sorting -> original ePiggy restored */
-        command = UndoCommand.COMMAND_WORD;
-        expectedResultMessage = UndoCommand.MESSAGE_SUCCESS;
-        assertCommandSuccess(command, expectedResultMessage, defaultModel);
-
-        /* Case: Redo sorting -> sorted */
-        command = RedoCommand.COMMAND_WORD;
-        expectedResultMessage = RedoCommand.MESSAGE_SUCCESS;
+        /* Case: sort list by date, then by amount for the same date -> sorted */
+        command = SortCommand.COMMAND_WORD + " " + PREFIX_DATE + " " + PREFIX_COST;
+        expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
+        expectedModel.sortExpenses(new ExpenseSort(Key.DATE, Key.COST));
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
 
         /* Case: sort list by amount with default ordering (descending) -> sorted */
         command = SortCommand.COMMAND_WORD + " " + PREFIX_COST;
         expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
-        expectedModel.sortExpenses(new CompareExpenseByCost());
+        expectedModel.sortExpenses(new ExpenseSort(Key.COST));
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
 
 
@@ -58,7 +50,7 @@ public class SortCommandSystemTest extends EPiggySystemTestWithDefaultData {
                 targetExpense), expectedModel);
         command = SortCommand.COMMAND_WORD + " " + PREFIX_DATE;
         expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
-        expectedModel.sortExpenses(new CompareExpenseByDate());
+        expectedModel.sortExpenses(new ExpenseSort(Key.DATE));
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
 
 
@@ -73,7 +65,7 @@ public class SortCommandSystemTest extends EPiggySystemTestWithDefaultData {
         showExpensesWithTag(VALID_TAG_FOOD);
         command = SortCommand.COMMAND_WORD + " " + PREFIX_COST;
         expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
-        expectedModel.sortExpenses(new CompareExpenseByCost());
+        expectedModel.sortExpenses(new ExpenseSort(Key.COST));
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
 
 
@@ -84,7 +76,7 @@ public class SortCommandSystemTest extends EPiggySystemTestWithDefaultData {
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
         command = SortCommand.COMMAND_WORD + " " + PREFIX_NAME;
         expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
-        expectedModel.sortExpenses(new CompareExpenseByName());
+        expectedModel.sortExpenses(new ExpenseSort(Key.NAME));
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
 
 
@@ -106,8 +98,8 @@ public class SortCommandSystemTest extends EPiggySystemTestWithDefaultData {
         /* Case: Invalid keyword -> rejected */
         command = SortCommand.COMMAND_WORD + " 123";
         assertCommandFailure(command, String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        /* Case: Invalid arguments (extra argument) -> rejected */
-        command = SortCommand.COMMAND_WORD + " " + PREFIX_NAME + " " + PREFIX_DATE;
+        /* Case: Invalid arguments (same key twice) -> rejected */
+        command = SortCommand.COMMAND_WORD + " " + PREFIX_NAME + " " + PREFIX_NAME;
         assertCommandFailure(command, String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
 
     }